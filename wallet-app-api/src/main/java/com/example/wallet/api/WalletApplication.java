@@ -2,6 +2,8 @@ package com.example.wallet.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 import org.springframework.boot.autoconfigure.domain.EntityScan; // Import EntityScan
@@ -14,6 +16,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories; //
                 "com.example.wallet.core",
                 "com.example.wallet.auth",
                 "com.example.wallet.common"
+}, exclude = {
+                // R2DBC only backs the streaming read path (core ReactiveReadConfig); JPA stays the sole transaction manager
+                R2dbcAutoConfiguration.class,
+                R2dbcTransactionManagerAutoConfiguration.class
 })
 // Tell Spring Data JPA where to find repositories in other modules
 @EnableJpaRepositories(basePackages = {
@@ -27,7 +33,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories; //
                 "com.example.wallet.core.domain"
 // Add other entity packages if necessary
 })
-@ConfigurationPropertiesScan(basePackages = "com.example.wallet.api.config") // Example
+@ConfigurationPropertiesScan(basePackages = {
+                "com.example.wallet.api.config",
+                "com.example.wallet.core.config"
+})
 public class WalletApplication {
 
         public static void main(String[] args) {
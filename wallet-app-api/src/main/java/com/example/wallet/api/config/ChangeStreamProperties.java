@@ -0,0 +1,29 @@
+package com.example.wallet.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.change-stream")
+@Getter
+@Setter
+public class ChangeStreamProperties {
+
+    private int maxSessions = 10_000; // Open event streams on this instance; further ones are shed with 503
+
+    private int maxSessionsPerUser = 5; // Opening one more closes the user's oldest stream (tabs, devices)
+
+    private int bufferSize = 256; // Undelivered events per stream; a client that falls this far behind is disconnected
+
+    private int senderThreads = 64; // Upper bound on threads writing to the sockets; started on demand, retired when idle
+
+    private Duration sendTimeout = Duration.ofSeconds(10); // A write blocked longer than this marks the client as stalled
+
+    private Duration heartbeatInterval = Duration.ofSeconds(20); // Comment line that keeps proxies from idling the stream out
+
+    private Duration sessionTimeout = Duration.ofMinutes(30); // Streams are closed after this; EventSource reconnects on its own
+
+    private Duration retryAfter = Duration.ofSeconds(5); // Retry-After (and SSE retry) when shedding streams
+}
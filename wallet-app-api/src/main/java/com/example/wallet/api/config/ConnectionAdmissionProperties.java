@@ -0,0 +1,23 @@
+package com.example.wallet.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.datasource.admission")
+@Getter
+@Setter
+public class ConnectionAdmissionProperties {
+
+    private boolean enabled = false; // Turned on by the virtual-threads profile, where request concurrency is unbounded
+
+    private int maxConcurrent = 0; // Connections handed out at once; 0 = the Hikari maximum pool size
+
+    private int maxWaiting = 1000; // Callers allowed to queue for a connection before new ones are rejected outright
+
+    private Duration acquireTimeout = Duration.ofSeconds(5); // Max queue time before the request is shed with 503
+
+    private Duration retryAfter = Duration.ofSeconds(1); // Retry-After hint sent with 503
+}
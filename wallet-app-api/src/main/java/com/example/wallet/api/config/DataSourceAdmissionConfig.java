@@ -0,0 +1,61 @@
+package com.example.wallet.api.config;
+
+import com.example.wallet.api.jdbc.AdmissionControlledDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+// Wraps the pooled DataSource in admission control when app.datasource.admission.enabled is set (virtual-threads profile)
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.admission", name = "enabled", havingValue = "true")
+@Slf4j
+public class DataSourceAdmissionConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10; // What Hikari applies when maximum-pool-size is left unset
+
+    static final int POST_PROCESSOR_ORDER = Ordered.LOWEST_PRECEDENCE - 100; // Sees the raw Hikari pool, before other DataSource wrappers
+
+    // Static with lazy dependencies: a BeanPostProcessor must not pull regular beans into early initialization
+    // Declared with the concrete type: Spring reads Ordered off the return type when sequencing post-processors
+    @Bean
+    public static AdmissionPostProcessor dataSourceAdmissionPostProcessor(ObjectProvider<ConnectionAdmissionProperties> properties,
+                                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        return new AdmissionPostProcessor(properties, meterRegistry);
+    }
+
+    record AdmissionPostProcessor(ObjectProvider<ConnectionAdmissionProperties> properties,
+                                          ObjectProvider<MeterRegistry> meterRegistry) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlledDataSource) {
+                return bean;
+            }
+            ConnectionAdmissionProperties admission = properties.getObject();
+            int maxConcurrent = admission.getMaxConcurrent();
+            if (maxConcurrent <= 0) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    log.warn("DataSource '{}' is not a Hikari pool and app.datasource.admission.max-concurrent is not set; "
+                            + "admission control disabled for it", beanName);
+                    return bean;
+                }
+                // Unset until the pool starts (reported as -1)
+                maxConcurrent = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+            }
+            return new AdmissionControlledDataSource(dataSource, maxConcurrent, admission, meterRegistry.getObject());
+        }
+
+        @Override
+        public int getOrder() {
+            return POST_PROCESSOR_ORDER;
+        }
+    }
+}
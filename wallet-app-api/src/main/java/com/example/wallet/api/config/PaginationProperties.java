@@ -0,0 +1,22 @@
+package com.example.wallet.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.pagination")
+@Getter
+@Setter
+public class PaginationProperties {
+
+    private int defaultPageSize = 50; // Used when the client sends no limit
+
+    private int maxPageSize = 200; // Hard cap so a single page stays cheap regardless of client input
+
+    public int resolvePageSize(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(requested, maxPageSize));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.wallet.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.security.password-hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    private int strength = 10; // BCrypt cost (log2 rounds, 4-31); each +1 doubles hashing time
+
+    private int threads = Runtime.getRuntime().availableProcessors(); // Concurrent hashes; BCrypt is CPU-bound
+
+    private int queueCapacity = 64; // Hashes allowed to wait for a thread before new ones are rejected
+
+    private Duration timeout = Duration.ofSeconds(5); // Max time a request waits for its hash (queue + work)
+
+    private Duration retryAfter = Duration.ofSeconds(1); // Retry-After hint sent with 503 when shedding load
+}
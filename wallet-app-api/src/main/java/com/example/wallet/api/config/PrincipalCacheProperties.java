@@ -0,0 +1,19 @@
+package com.example.wallet.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.security.principal-cache")
+@Getter
+@Setter
+public class PrincipalCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maxSize = 10_000; // Distinct authenticated users kept in memory
+
+    private Duration ttl = Duration.ofMinutes(5); // Upper bound on how stale a cached principal can get
+}
@@ -0,0 +1,79 @@
+package com.example.wallet.api.config;
+
+import com.example.wallet.api.jdbc.ReplicaRoutingDataSource;
+import com.example.wallet.core.cache.SharedCacheStore;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Puts read-replica routing in front of the primary DataSource when app.datasource.replicas.enabled is set.
+// Ordered after the admission post-processor, so the primary arrives here already admission-controlled
+// (replicas have their own pools and are not).
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    // Static with lazy dependencies: a BeanPostProcessor must not pull regular beans into early initialization
+    // Declared with the concrete type: Spring reads Ordered off the return type when sequencing post-processors
+    @Bean
+    public static RoutingPostProcessor readReplicaRoutingPostProcessor(ObjectProvider<ReadReplicaProperties> properties,
+                                                                    ObjectProvider<DataSourceProperties> primaryProperties,
+                                                                    ObjectProvider<MeterRegistry> meterRegistry,
+                                                                    ObjectProvider<SharedCacheStore> sharedStore) {
+        return new RoutingPostProcessor(properties, primaryProperties, meterRegistry, sharedStore);
+    }
+
+    record RoutingPostProcessor(ObjectProvider<ReadReplicaProperties> properties,
+                                        ObjectProvider<DataSourceProperties> primaryProperties,
+                                        ObjectProvider<MeterRegistry> meterRegistry,
+                                        ObjectProvider<SharedCacheStore> sharedStore) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || bean instanceof ReplicaRoutingDataSource) {
+                return bean;
+            }
+            ReadReplicaProperties replicas = properties.getObject();
+            if (replicas.getNodes().isEmpty()) {
+                throw new IllegalStateException("app.datasource.replicas.enabled is set but no replica nodes are configured");
+            }
+            return new ReplicaRoutingDataSource(primary, replicaPools(replicas, primaryProperties.getObject()),
+                    replicas, meterRegistry.getObject(), sharedStore::getObject); // Read-your-writes windows, shared by all instances
+        }
+
+        @Override
+        public int getOrder() {
+            return DataSourceAdmissionConfig.POST_PROCESSOR_ORDER + 1;
+        }
+    }
+
+    private static Map<String, DataSource> replicaPools(ReadReplicaProperties properties, DataSourceProperties primary) {
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        List<ReadReplicaProperties.Node> nodes = properties.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReadReplicaProperties.Node node = nodes.get(i);
+            String name = "replica-" + (i + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(node.getUrl());
+            pool.setUsername(node.getUsername() != null ? node.getUsername() : primary.determineUsername());
+            pool.setPassword(node.getPassword() != null ? node.getPassword() : primary.determinePassword());
+            pool.setMaximumPoolSize(properties.getMaxPoolSize());
+            pool.setReadOnly(true); // Belt and braces: a mis-routed write fails instead of reaching a replica
+            pool.addDataSourceProperty("ApplicationName", "wallet-app-" + name); // Visible in pg_stat_activity
+            pools.put(name, pool);
+        }
+        return pools;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.wallet.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+@Getter
+@Setter
+public class ReadReplicaProperties {
+
+    private boolean enabled = false; // Route @Transactional(readOnly = true) work to the replicas below
+
+    private List<Node> nodes = new ArrayList<>();
+
+    private int maxPoolSize = 10; // Connections per replica
+
+    private Duration maxLag = Duration.ofSeconds(2); // Replicas further behind the primary get no reads until they catch up
+
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    private Duration stickyWindow = Duration.ofSeconds(5); // After a user's own write their reads stay on the primary; keep >= max-lag
+
+    private long maxStickyUsers = 100_000; // Users remembered as recent writers
+
+    @Getter
+    @Setter
+    public static class Node {
+
+        private String url; // JDBC URL of the replica
+
+        private String username; // Defaults to spring.datasource.username
+
+        private String password; // Defaults to spring.datasource.password
+    }
+}
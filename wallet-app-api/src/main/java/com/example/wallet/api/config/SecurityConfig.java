@@ -1,7 +1,12 @@
 package com.example.wallet.api.config;
 
+import com.example.wallet.api.security.BoundedPasswordEncoder;
 import com.example.wallet.api.security.JwtAuthenticationFilter;
+import com.example.wallet.auth.domain.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,7 +19,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer; // For disabling CSRF concisely
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService; // Import Spring's interface
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -34,25 +38,37 @@ public class SecurityConfig {
             "/v3/api-docs/**", // OpenAPI v3 docs
             "/api-docs/**",     // Older or custom api-docs path
             "/swagger-ui/**", // Swagger UI webjar mapping
-            "/swagger-ui.html" // Swagger UI entry point
-            // Add other public endpoints like health checks if needed
-            // "/actuator/health"
+            "/swagger-ui.html", // Swagger UI entry point
+            "/actuator/health/**" // Liveness/readiness probes
     };
 
+    private static final String PROMETHEUS_ENDPOINT = "/actuator/prometheus";
+
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationProvider authenticationProvider,
+            @Value("${server.port:8080}") int serverPort,
+            @Value("${management.server.port:-1}") int managementPort) throws Exception {
+        // Actuator on its own port (MANAGEMENT_SERVER_PORT) is meant to be reachable only from inside the network
+        boolean separateManagementPort = managementPort > 0 && managementPort != serverPort;
         http
             // Disable CSRF - Suitable for stateless APIs like JWT
             .csrf(AbstractHttpConfigurer::disable)
             // Define authorization rules
             .authorizeHttpRequests(auth -> auth
                     .requestMatchers(AUTH_WHITELIST).permitAll() // Permit whitelist URLs
+                    // Prometheus scrapes the management port without credentials; on the API port metrics need an admin
+                    .requestMatchers(request -> separateManagementPort && request.getLocalPort() == managementPort
+                            && PROMETHEUS_ENDPOINT.equals(request.getRequestURI())).permitAll()
+                    .requestMatchers(PROMETHEUS_ENDPOINT).hasRole(Role.ADMIN.name())
+                    // Completion dispatch of streamed (Flux) responses; the request was authorized when it started,
+                    // and the stateless JWT context is not carried over to the async dispatch
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     .anyRequest().authenticated() // All other requests must be authenticated
             )
             // Configure session management to be stateless
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             // Set the custom authentication provider
-            .authenticationProvider(authenticationProvider())
+            .authenticationProvider(authenticationProvider)
             // Add the JWT filter before the standard UsernamePasswordAuthenticationFilter
             .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -64,15 +80,16 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        // BCrypt on a bounded pool so sign-in bursts are shed (503) instead of occupying request threads
+        return new BoundedPasswordEncoder(properties, meterRegistry);
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService); // Set custom UserDetailsService
-        authProvider.setPasswordEncoder(passwordEncoder()); // Set password encoder
+        authProvider.setPasswordEncoder(passwordEncoder); // Set password encoder
         return authProvider;
     }
 
@@ -0,0 +1,62 @@
+package com.example.wallet.api.config;
+
+import com.example.wallet.api.jdbc.SqlAccountingFilter;
+import com.example.wallet.api.jdbc.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+// Per-request SQL statement accounting when app.sql-accounting.enabled is set (dev profile). The DataSource proxy is
+// ordered after the admission and replica post-processors, so it is outermost and sees every statement.
+@Configuration
+@ConditionalOnProperty(prefix = "app.sql-accounting", name = "enabled", havingValue = "true")
+public class SqlAccountingConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    // Static with lazy dependencies: a BeanPostProcessor must not pull regular beans into early initialization
+    // Declared with the concrete type: Spring reads Ordered off the return type when sequencing post-processors
+    @Bean
+    public static AccountingPostProcessor sqlAccountingPostProcessor(ObjectProvider<SqlStatementCounter> counter) {
+        return new AccountingPostProcessor(counter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlAccountingFilter> sqlAccountingFilter(SqlStatementCounter counter,
+                                                                         SqlAccountingProperties properties,
+                                                                         MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlAccountingFilter> registration =
+                new FilterRegistrationBean<>(new SqlAccountingFilter(counter, properties, meterRegistry));
+        // Ahead of Spring Security, so the JWT filter's principal lookups are part of the request's tally
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    record AccountingPostProcessor(ObjectProvider<SqlStatementCounter> counter) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                return bean;
+            }
+            return ProxyDataSourceBuilder.create(dataSource).name(beanName).listener(counter.getObject()).build();
+        }
+
+        @Override
+        public int getOrder() {
+            return DataSourceAdmissionConfig.POST_PROCESSOR_ORDER + 2;
+        }
+    }
+}
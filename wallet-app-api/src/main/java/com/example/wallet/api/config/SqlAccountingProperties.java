@@ -0,0 +1,28 @@
+package com.example.wallet.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "app.sql-accounting")
+@Getter
+@Setter
+public class SqlAccountingProperties {
+
+    private boolean enabled = false; // Turned on in the dev profile; every JDBC call goes through a proxy when set
+
+    private boolean responseHeaders = true; // X-Sql-Statements / X-Sql-Time-Ms on every response
+
+    private int maxStatementsPerRequest = 0; // Default per-request budget; exceeding it logs a warning. 0 = no budget
+
+    // Budgets per method and route pattern, overriding the default, e.g. "[GET /api/v1/transactions/{transactionId}]": 2
+    private Map<String, Integer> budgets = new LinkedHashMap<>();
+
+    /** Budget for a "METHOD pattern" route: its own entry, else the default. 0 = no budget. */
+    public int budgetFor(String route) {
+        return budgets.getOrDefault(route, maxStatementsPerRequest);
+    }
+}
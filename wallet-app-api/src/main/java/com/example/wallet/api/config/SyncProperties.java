@@ -0,0 +1,31 @@
+package com.example.wallet.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.sync")
+@Getter
+@Setter
+public class SyncProperties {
+
+    private int defaultBatchSize = 500; // Changes per sync call when the client sends no limit
+
+    private int maxBatchSize = 1000; // Hard cap so one sync call stays a short index range scan
+
+    private int maxStreamSize = 100_000; // Cap (and default) for /transactions/sync/stream, which is read with backpressure
+
+    public int resolveBatchSize(Integer requested) {
+        if (requested == null) {
+            return defaultBatchSize;
+        }
+        return Math.max(1, Math.min(requested, maxBatchSize));
+    }
+
+    public int resolveStreamSize(Integer requested) {
+        if (requested == null) {
+            return maxStreamSize;
+        }
+        return Math.max(1, Math.min(requested, maxStreamSize));
+    }
+}
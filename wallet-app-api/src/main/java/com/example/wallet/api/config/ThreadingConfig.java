@@ -0,0 +1,31 @@
+package com.example.wallet.api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+// Reports which threading mode requests run on; spring.threads.virtual.enabled silently falls back to platform threads before Java 21
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class ThreadingConfig {
+
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportThreadingMode() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Request handling and task executors run on virtual threads");
+        } else if (requested) {
+            log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; running on platform threads "
+                    + "(Java 21+ required)", Runtime.version().feature());
+        } else {
+            log.info("Request handling runs on the platform thread pool");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.wallet.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.jwt.token-cache")
+@Getter
+@Setter
+public class TokenCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maxSize = 50_000; // Distinct access tokens whose verified claims are kept in memory
+}
@@ -0,0 +1,13 @@
+package com.example.wallet.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.transactions.batch")
+@Getter
+@Setter
+public class TransactionBatchProperties {
+
+    private int maxItems = 10_000; // Items per bulk-create request; everything is written in one DB transaction
+}
@@ -0,0 +1,15 @@
+package com.example.wallet.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.transactions.import")
+@Getter
+@Setter
+public class TransactionImportProperties {
+
+    private int chunkSize = 1000; // Rows held in memory and committed per DB transaction
+
+    private int maxErrors = 1000; // Import is aborted once this many rows have been rejected
+}
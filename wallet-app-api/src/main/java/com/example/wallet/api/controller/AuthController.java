@@ -1,11 +1,12 @@
 package com.example.wallet.api.controller;
 
 import com.example.wallet.api.dto.JwtAuthenticationResponse;
+import com.example.wallet.api.dto.RefreshTokenRequest;
 import com.example.wallet.api.dto.SignInRequest;
 import com.example.wallet.api.dto.SignUpRequest;
 import com.example.wallet.api.dto.UserDto; // Simple DTO for registered user
 import com.example.wallet.api.mapper.UserMapper;
-import com.example.wallet.api.service.JwtService;
+import com.example.wallet.api.service.RefreshTokenService;
 import com.example.wallet.auth.domain.User;
 import com.example.wallet.api.service.AuthService;
 import jakarta.validation.Valid;
@@ -27,7 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
      private final AuthService authService;
-     private final JwtService jwtService;
+     private final RefreshTokenService refreshTokenService;
 
      @PostMapping("/signup")
      public ResponseEntity<UserDto> signUp(@Valid @RequestBody SignUpRequest request) {
@@ -50,11 +51,8 @@ public class AuthController {
                          request.getUsernameOrEmail(),
                          request.getPassword());
 
-               // Generate tokens upon successful authentication
-               String accessToken = jwtService.generateToken(userDetails);
-               String refreshToken = jwtService.generateRefreshToken(userDetails);
-
-               return ResponseEntity.ok(new JwtAuthenticationResponse(accessToken, refreshToken));
+               // Generate tokens upon successful authentication (UserDetailsServiceImpl returns our User entity)
+               return ResponseEntity.ok(refreshTokenService.issueTokens((User) userDetails));
 
           } catch (AuthenticationException e) {
                log.warn("Authentication failed for user {}: {}", request.getUsernameOrEmail(), e.getMessage());
@@ -63,7 +61,9 @@ public class AuthController {
           }
      }
 
-     // TODO: Add endpoint for token refresh if implementing refresh token strategy
-     // @PostMapping("/refresh")
-     // public ResponseEntity<?> refreshToken(...) { ... }
+     @PostMapping("/refresh")
+     public ResponseEntity<JwtAuthenticationResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+          // Rotates the refresh token; invalid or reused tokens surface as 401 via GlobalExceptionHandler
+          return ResponseEntity.ok(refreshTokenService.rotate(request.getRefreshToken()));
+     }
 }
\ No newline at end of file
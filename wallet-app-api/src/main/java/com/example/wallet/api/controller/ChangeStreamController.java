@@ -0,0 +1,45 @@
+package com.example.wallet.api.controller;
+
+import com.example.wallet.api.service.ChangeStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import com.example.wallet.auth.domain.User; // Import your User class
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/events")
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeStreamController {
+
+    private final ChangeStreamService changeStreamService;
+
+    private UUID getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof User)) {
+            log.error("Could not retrieve authenticated user details.");
+            throw new IllegalStateException("User not authenticated properly");
+        }
+        User currentUser = (User) authentication.getPrincipal();
+        return currentUser.getId();
+    }
+
+    // Server-sent events: "ready" once, then a "change" event per committed write of the caller's spaces and
+    // transactions. Events are hints, not a log; on reconnect resume from the last cursor via /transactions/sync.
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges() {
+        UUID userId = getCurrentUserId();
+        log.debug("Received request to open change stream for user {}", userId);
+        return changeStreamService.open(userId);
+    }
+}
@@ -1,22 +1,36 @@
 package com.example.wallet.api.controller;
 
 import com.example.wallet.api.dto.CreateSpaceRequest;
+import com.example.wallet.api.dto.SpaceAnalyticsDto;
 import com.example.wallet.api.dto.SpaceDto;
+import com.example.wallet.api.dto.SpaceSummaryDto;
 import com.example.wallet.api.dto.UpdateSpaceRequest;
+import com.example.wallet.api.mapper.EntityTagMapper;
 import com.example.wallet.api.mapper.SpaceMapper;
+import com.example.wallet.api.metrics.ResponseRowMetrics;
+import com.example.wallet.core.domain.AnalyticsBucket;
+import com.example.wallet.core.domain.PeriodTotals;
 import com.example.wallet.core.domain.Space;
+import com.example.wallet.core.service.ReactiveReadService;
+import com.example.wallet.core.service.SpaceAnalyticsService;
 import com.example.wallet.core.service.SpaceService;
+import com.example.wallet.core.service.SpaceSummaryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import com.example.wallet.auth.domain.User; // Import your User class
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,6 +43,10 @@ import java.util.UUID;
 public class SpaceController {
 
     private final SpaceService spaceService;
+    private final SpaceSummaryService spaceSummaryService;
+    private final SpaceAnalyticsService spaceAnalyticsService;
+    private final ReactiveReadService reactiveReadService;
+    private final ResponseRowMetrics responseRowMetrics;
 
     private UUID getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -56,19 +74,54 @@ public class SpaceController {
     }
 
     @GetMapping("/{spaceId}")
-    public ResponseEntity<SpaceDto> getSpaceById(@PathVariable UUID spaceId) {
+    public ResponseEntity<SpaceDto> getSpaceById(@PathVariable UUID spaceId, WebRequest webRequest) {
         UUID userId = getCurrentUserId();
         log.debug("Received request to get space {} for user {}", spaceId, userId);
         Space space = spaceService.getSpaceById(userId, spaceId);
-        return ResponseEntity.ok(SpaceMapper.toDto(space));
+        String etag = EntityTagMapper.forSpace(space);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(EntityTagMapper.REVALIDATE).build(); // ETag already set
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(EntityTagMapper.REVALIDATE).body(SpaceMapper.toDto(space));
+    }
+
+    @GetMapping("/{spaceId}/summary")
+    public ResponseEntity<SpaceSummaryDto> getSpaceSummary(@PathVariable UUID spaceId) {
+        UUID userId = getCurrentUserId();
+        log.debug("Received request to get summary of space {} for user {}", spaceId, userId);
+        return ResponseEntity.ok(SpaceMapper.toSummaryDto(spaceSummaryService.getSummary(userId, spaceId)));
+    }
+
+    @GetMapping("/{spaceId}/analytics")
+    public ResponseEntity<SpaceAnalyticsDto> getSpaceAnalytics(@PathVariable UUID spaceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "MONTH") AnalyticsBucket bucket) {
+        UUID userId = getCurrentUserId();
+        log.debug("Received request to get {} analytics of space {} for user {} from {} to {}", bucket, spaceId, userId, from, to);
+        List<PeriodTotals> totals = spaceAnalyticsService.getTotals(userId, spaceId, from, to, bucket);
+        return ResponseEntity.ok(SpaceMapper.toAnalyticsDto(spaceId, bucket, from, to, totals));
     }
 
     @GetMapping
-    public ResponseEntity<List<SpaceDto>> getAllSpacesForUser() {
+    public ResponseEntity<List<SpaceDto>> getAllSpacesForUser(WebRequest webRequest) {
         UUID userId = getCurrentUserId();
         log.debug("Received request to get all spaces for user {}", userId);
-        List<Space> spaces = spaceService.getSpacesForUser(userId);
-        return ResponseEntity.ok(SpaceMapper.toDtoList(spaces));
+        List<Space> spaces = spaceService.getSpacesForUser(userId); // Served from the space list cache when warm
+        String etag = EntityTagMapper.forSpaceList(spaces);
+        if (webRequest.checkNotModified(etag)) {
+            // Unchanged since the client's copy: skip mapping and serialization entirely
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(EntityTagMapper.REVALIDATE).build(); // ETag already set
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(EntityTagMapper.REVALIDATE).body(SpaceMapper.toDtoList(spaces));
+    }
+
+    // Same listing streamed over R2DBC, one space per line, without holding a servlet thread while it is read
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<SpaceDto> streamAllSpacesForUser() {
+        UUID userId = getCurrentUserId();
+        log.debug("Received request to stream all spaces for user {}", userId);
+        return responseRowMetrics.counted(reactiveReadService.streamSpacesForUser(userId).map(SpaceMapper::toDto));
     }
 
     @PutMapping("/{spaceId}")
@@ -1,25 +1,66 @@
 package com.example.wallet.api.controller;
 
+import com.example.wallet.api.config.PaginationProperties;
+import com.example.wallet.api.config.SyncProperties;
+import com.example.wallet.api.config.TransactionBatchProperties;
+import com.example.wallet.api.dto.BatchCreateTransactionsRequest;
+import com.example.wallet.api.dto.BatchCreateTransactionsResponse;
 import com.example.wallet.api.dto.CreateTransactionRequest;
+import com.example.wallet.api.dto.ImportEventDto;
+import com.example.wallet.api.dto.SyncChangeDto;
+import com.example.wallet.api.dto.SyncChangesDto;
 import com.example.wallet.api.dto.TransactionDto;
+import com.example.wallet.api.dto.TransactionPageDto;
 import com.example.wallet.api.dto.UpdateTransactionRequest;
+import com.example.wallet.api.mapper.CursorMapper;
+import com.example.wallet.api.mapper.EntityTagMapper;
 import com.example.wallet.api.mapper.TransactionMapper;
+import com.example.wallet.api.metrics.ResponseRowMetrics;
+import com.example.wallet.api.service.TransactionExportService;
+import com.example.wallet.api.service.TransactionFileFormat;
+import com.example.wallet.api.service.TransactionImportService;
+import com.example.wallet.common.exception.InvalidRequestException;
+import com.example.wallet.core.domain.NewTransaction;
+import com.example.wallet.core.domain.SyncBatch;
 import com.example.wallet.core.domain.Transaction;
+import com.example.wallet.core.domain.TransactionBatchResult;
+import com.example.wallet.core.domain.TransactionPage;
+import com.example.wallet.core.service.ReactiveReadService;
+import com.example.wallet.core.service.SpaceSummaryService;
 import com.example.wallet.core.service.TransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import com.example.wallet.auth.domain.User; // Import your User class
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -29,6 +70,16 @@ import java.util.UUID;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final SpaceSummaryService spaceSummaryService; // Last change sequence per space, for ETags
+    private final ReactiveReadService reactiveReadService; // Non-blocking reads for the streaming endpoints
+    private final PaginationProperties paginationProperties;
+    private final SyncProperties syncProperties;
+    private final TransactionBatchProperties transactionBatchProperties;
+    private final Validator validator; // Per-item validation for bulk requests
+    private final TransactionImportService transactionImportService;
+    private final TransactionExportService transactionExportService;
+    private final ObjectMapper objectMapper;
+    private final ResponseRowMetrics responseRowMetrics; // Row counts for the streamed sync
 
     private UUID getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -43,6 +94,17 @@ public class TransactionController {
         return currentUser.getId();
     }
 
+    private Map<String, String> validate(CreateTransactionRequest item) {
+        if (item == null) {
+            return Map.of("item", "Item cannot be null");
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ConstraintViolation<CreateTransactionRequest> violation : validator.validate(item)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
     @PostMapping
     public ResponseEntity<TransactionDto> createTransaction(@Valid @RequestBody CreateTransactionRequest request) {
         UUID userId = getCurrentUserId();
@@ -57,6 +119,90 @@ public class TransactionController {
         return new ResponseEntity<>(TransactionMapper.toDto(createdTransaction), HttpStatus.CREATED);
     }
 
+    // Bulk create for imports: ownership is checked once per distinct space and rows are inserted in JDBC batches
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateTransactionsResponse> createTransactions(
+            @Valid @RequestBody BatchCreateTransactionsRequest request) {
+        UUID userId = getCurrentUserId();
+        List<CreateTransactionRequest> items = request.getItems();
+        log.info("Received request to create {} transactions for user {}", items.size(), userId);
+        if (items.size() > transactionBatchProperties.getMaxItems()) {
+            throw new InvalidRequestException("At most " + transactionBatchProperties.getMaxItems() + " items are allowed per batch");
+        }
+
+        // Validate item by item so one bad row is reported instead of rejecting the whole import
+        Map<Integer, Map<String, String>> invalidItems = new HashMap<>();
+        List<NewTransaction> validItems = new ArrayList<>(items.size());
+        for (int index = 0; index < items.size(); index++) {
+            Map<String, String> errors = validate(items.get(index));
+            if (errors.isEmpty()) {
+                validItems.add(TransactionMapper.toNewTransaction(items.get(index)));
+            } else {
+                invalidItems.put(index, errors);
+            }
+        }
+
+        TransactionBatchResult result = transactionService.createTransactions(userId, validItems);
+        return ResponseEntity.ok(TransactionMapper.toBatchResponse(items, invalidItems, result));
+    }
+
+    // File import (CSV or NDJSON) as a multipart upload; progress and row errors are streamed back as NDJSON
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public void importTransactionsFile(@RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) UUID spaceId,
+            HttpServletResponse response) throws IOException {
+        UUID userId = getCurrentUserId();
+        TransactionFileFormat importFormat = TransactionImportService.resolveFormat(
+                format, file.getOriginalFilename(), file.getContentType());
+        log.info("Received {} import of {} bytes for user {}", importFormat, file.getSize(), userId);
+        try (InputStream input = file.getInputStream()) { // Spooled to disk by the multipart resolver, not the heap
+            streamImport(userId, input, importFormat, spaceId, response);
+        }
+    }
+
+    // Same import with the file as the raw request body, read as it arrives
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public void importTransactionsStream(@RequestParam(required = false) UUID spaceId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        UUID userId = getCurrentUserId();
+        TransactionFileFormat importFormat = TransactionImportService.resolveFormat(
+                null, null, request.getContentType());
+        log.info("Received streamed {} import for user {}", importFormat, userId);
+        streamImport(userId, request.getInputStream(), importFormat, spaceId, response);
+    }
+
+    private void streamImport(UUID userId, InputStream input, TransactionFileFormat format, UUID spaceId,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream output = response.getOutputStream();
+        transactionImportService.importTransactions(userId, input, format, spaceId, event -> {
+            try {
+                output.write(objectMapper.writeValueAsBytes(event)); // writeValue(OutputStream) would close the stream
+                output.write('\n');
+                if (event.getEvent() != ImportEventDto.Type.ROW_ERROR) {
+                    output.flush(); // Push progress to the client once per chunk
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // Full history export streamed from a database cursor; the first bytes go out before the last row is read
+    @GetMapping("/export")
+    public void exportTransactions(@RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        UUID userId = getCurrentUserId();
+        TransactionFileFormat exportFormat = TransactionFileFormat.fromParameter(format);
+        log.info("Received {} export request for user {}", exportFormat, userId);
+        response.setContentType(exportFormat.getMediaType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("transactions." + exportFormat.getExtension()).build().toString());
+        transactionExportService.export(userId, exportFormat, response.getOutputStream());
+    }
+
     @GetMapping("/{transactionId}")
     public ResponseEntity<TransactionDto> getTransactionById(@PathVariable UUID transactionId) {
         UUID userId = getCurrentUserId();
@@ -66,14 +212,33 @@ public class TransactionController {
     }
 
     @GetMapping("/space/{spaceId}")
-    public ResponseEntity<List<TransactionDto>> getTransactionsForSpace(@PathVariable UUID spaceId) {
+    public ResponseEntity<TransactionPageDto> getTransactionsForSpace(@PathVariable UUID spaceId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
         UUID userId = getCurrentUserId();
-        log.debug("Received request to get transactions for space {} for user {}", spaceId, userId);
-        List<Transaction> transactions = transactionService.getTransactionsForSpace(userId, spaceId);
-        return ResponseEntity.ok(TransactionMapper.toDtoList(transactions));
+        int pageSize = paginationProperties.resolvePageSize(limit);
+        log.debug("Received request to get transactions for space {} for user {} (limit {})", spaceId, userId, pageSize);
+
+        // The space's last change sequence (which also checks ownership) decides the ETag. It is read before the page, so
+        // a concurrent write can only make the ETag older than the body, which costs one extra download, never a stale
+        // 304. It comes from the summary cache only when invalidations reach every instance (see getLastChangeSeq).
+        long lastChangeSeq = spaceSummaryService.getLastChangeSeq(userId, spaceId);
+        String etag = EntityTagMapper.forTransactionPage(lastChangeSeq, pageSize);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(EntityTagMapper.REVALIDATE).build(); // ETag already set
+        }
+
+        TransactionPage page = transactionService.getTransactionsForSpace(
+                userId,
+                spaceId,
+                CursorMapper.fromToken(cursor),
+                pageSize);
+        return ResponseEntity.ok().eTag(etag).cacheControl(EntityTagMapper.REVALIDATE).body(TransactionMapper.toPageDto(page));
     }
 
-    @GetMapping("/sync")
+    // Legacy timestamp-based sync; kept for clients that still send ?since=. Does not report deletions.
+    @GetMapping(value = "/sync", params = "since")
     public ResponseEntity<List<TransactionDto>> getTransactionsForSync(
             @RequestParam(required = true) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since) {
         UUID userId = getCurrentUserId();
@@ -82,6 +247,33 @@ public class TransactionController {
         return ResponseEntity.ok(TransactionMapper.toDtoList(transactions));
     }
 
+    // Streaming delta sync over R2DBC: the servlet thread is released while changes are read and written out one per
+    // line, and each line carries a resume cursor. Same ?cursor= tokens as the batch endpoint.
+    @GetMapping(value = "/sync/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<SyncChangeDto> streamChangesForSync(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        UUID userId = getCurrentUserId();
+        int streamSize = syncProperties.resolveStreamSize(limit);
+        long afterChangeSeq = CursorMapper.fromSyncToken(cursor);
+        log.debug("Received streaming sync request for user {} after change sequence {} (limit {})", userId, afterChangeSeq, streamSize);
+        return responseRowMetrics.counted(reactiveReadService.streamChangesForUser(userId, afterChangeSeq, streamSize)
+                .map(TransactionMapper::toSyncChangeDto));
+    }
+
+    // Cursor-based delta sync: bounded batches of upserts and deletion tombstones in change order
+    @GetMapping(value = "/sync", params = "!since")
+    public ResponseEntity<SyncChangesDto> getChangesForSync(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        UUID userId = getCurrentUserId();
+        int batchSize = syncProperties.resolveBatchSize(limit);
+        long afterChangeSeq = CursorMapper.fromSyncToken(cursor);
+        log.debug("Received sync request for user {} after change sequence {} (limit {})", userId, afterChangeSeq, batchSize);
+        SyncBatch batch = transactionService.getChangesForUser(userId, afterChangeSeq, batchSize);
+        return ResponseEntity.ok(TransactionMapper.toSyncDto(batch));
+    }
+
     @PutMapping("/{transactionId}")
     public ResponseEntity<TransactionDto> updateTransaction(@PathVariable UUID transactionId,
             @Valid @RequestBody UpdateTransactionRequest request) {
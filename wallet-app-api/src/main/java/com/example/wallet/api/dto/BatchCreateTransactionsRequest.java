@@ -0,0 +1,13 @@
+package com.example.wallet.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchCreateTransactionsRequest {
+    // Items are validated one by one (not via @Valid) so a bad row is reported instead of failing the batch
+    @NotEmpty(message = "Items cannot be empty")
+    private List<CreateTransactionRequest> items;
+}
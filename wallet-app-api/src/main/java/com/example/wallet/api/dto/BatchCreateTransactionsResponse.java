@@ -0,0 +1,16 @@
+package com.example.wallet.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCreateTransactionsResponse {
+    private int created;
+    private int failed;
+    private List<BatchItemResultDto> results; // One entry per request item, in request order
+}
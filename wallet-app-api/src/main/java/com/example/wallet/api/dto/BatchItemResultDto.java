@@ -0,0 +1,23 @@
+package com.example.wallet.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResultDto {
+    private int index; // Position in the request's items list
+    private Status status;
+    private TransactionDto transaction; // Set when CREATED
+    private Map<String, String> errors; // Field -> message, set when not CREATED
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        SPACE_NOT_FOUND
+    }
+}
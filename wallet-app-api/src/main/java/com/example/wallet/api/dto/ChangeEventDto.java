@@ -0,0 +1,21 @@
+package com.example.wallet.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+// Data of one "change" event on /events; clients refetch or resume /transactions/sync from cursor
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEventDto {
+    private String type; // e.g. TRANSACTION_CREATED, SPACE_DELETED
+    private UUID spaceId;
+    private UUID transactionId; // Absent for space and bulk events
+    private Integer count; // Transactions a TRANSACTIONS_CREATED event stands for
+    private String cursor; // Sync token positioned after this change (transaction events only)
+}
@@ -0,0 +1,30 @@
+package com.example.wallet.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// One line of the NDJSON progress stream returned by the transaction import endpoint
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportEventDto {
+    private Type event;
+    private Long row;                   // 1-based data row (ROW_ERROR only)
+    private Map<String, String> errors; // Field -> message (ROW_ERROR only)
+    private Long rowsRead;              // Running totals (PROGRESS, COMPLETED, ABORTED)
+    private Long created;
+    private Long failed;
+    private String message;             // Reason (ABORTED only)
+
+    public enum Type {
+        ROW_ERROR,
+        PROGRESS,
+        COMPLETED,
+        ABORTED
+    }
+}
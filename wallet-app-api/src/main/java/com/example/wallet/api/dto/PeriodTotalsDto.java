@@ -0,0 +1,19 @@
+package com.example.wallet.api.dto;
+
+import com.example.wallet.core.domain.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodTotalsDto {
+    private LocalDate periodStart; // First day of the day/week/month bucket
+    private TransactionType type;
+    private BigDecimal total;
+    private long count;
+}
@@ -0,0 +1,21 @@
+package com.example.wallet.api.dto;
+
+import com.example.wallet.core.domain.AnalyticsBucket;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceAnalyticsDto {
+    private UUID spaceId;
+    private AnalyticsBucket bucket;
+    private LocalDate from;
+    private LocalDate to;
+    private List<PeriodTotalsDto> totals; // Ordered by period; periods without transactions are omitted
+}
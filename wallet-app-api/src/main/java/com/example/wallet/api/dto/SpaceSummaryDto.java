@@ -0,0 +1,21 @@
+package com.example.wallet.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceSummaryDto {
+    private UUID spaceId;
+    private BigDecimal balance;       // totalIncome - totalExpense (transfers excluded)
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpense;
+    private long transactionCount;
+    private OffsetDateTime lastActivityAt;
+}
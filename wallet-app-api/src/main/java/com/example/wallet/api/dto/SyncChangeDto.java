@@ -0,0 +1,17 @@
+package com.example.wallet.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One line of the streamed sync feed; exactly one of upsert and deletion is present
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SyncChangeDto {
+    private String cursor; // Resume token positioned after this change; store the last one received
+    private TransactionDto upsert;
+    private TransactionTombstoneDto deletion;
+}
@@ -0,0 +1,17 @@
+package com.example.wallet.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncChangesDto {
+    private List<TransactionDto> upserts;             // Created or updated since the cursor
+    private List<TransactionTombstoneDto> deletions;  // Deleted since the cursor
+    private String nextCursor; // Opaque token; store it and pass back as ?cursor= on the next sync
+    private boolean hasMore;   // True when the client should call again immediately
+}
@@ -0,0 +1,16 @@
+package com.example.wallet.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPageDto {
+    private List<TransactionDto> items;
+    private String nextCursor; // Opaque token; pass back as ?cursor= to fetch the next page
+    private boolean hasMore;
+}
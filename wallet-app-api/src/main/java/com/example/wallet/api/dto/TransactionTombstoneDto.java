@@ -0,0 +1,17 @@
+package com.example.wallet.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionTombstoneDto {
+    private UUID id; // Id of the deleted transaction
+    private UUID spaceId;
+    private OffsetDateTime deletedAt;
+}
@@ -1,16 +1,25 @@
 package com.example.wallet.api.exception; // Place in appropriate package within api module
 
+import com.example.wallet.common.exception.InvalidRequestException;
 import com.example.wallet.common.exception.ResourceNotFoundException;
+import com.example.wallet.common.exception.ServiceOverloadedException;
 import com.example.wallet.common.exception.UnauthorizedAccessException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import com.example.wallet.auth.exception.InvalidRefreshTokenException;
 import com.example.wallet.auth.exception.UserAlreadyExistsException;
 import org.springframework.security.core.AuthenticationException; // Import Spring Security's exception
 import org.springframework.security.access.AccessDeniedException; // Handles @PreAuthorize failures
@@ -46,6 +55,62 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidRequestException(InvalidRequestException ex,
+            WebRequest request) {
+        log.warn("Invalid request: {}", ex.getMessage());
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(),
+                request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorDetails> handleServiceOverloadedException(ServiceOverloadedException ex,
+            WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(),
+                request.getDescription(false));
+        // Tell well-behaved clients when to come back instead of hammering a saturated resource.
+        // Content type is pinned so the error still renders for clients that only accept text/event-stream.
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorDetails);
+    }
+
+    // A transaction could not start; when the connection admission guard shed it, answer like any other overload
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorDetails> handleCannotCreateTransactionException(CannotCreateTransactionException ex,
+            WebRequest request) {
+        if (NestedExceptionUtils.getMostSpecificCause(ex) instanceof ServiceOverloadedException overloaded) {
+            log.warn("Request shed: {}", overloaded.getMessage());
+            return handleServiceOverloadedException(overloaded, request);
+        }
+        log.error("Could not open a database transaction", ex);
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), "Database unavailable",
+                request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // Concurrent update of the same versioned entity (e.g. two clients renaming a space at once)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorDetails> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex,
+            WebRequest request) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(),
+                "The resource was modified concurrently, please reload and retry", request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
+    }
+
+    // Handle unparseable path variables / request params (bad UUIDs, dates, enum values)
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorDetails> handleArgumentTypeMismatch(MethodArgumentTypeMismatchException ex,
+            WebRequest request) {
+        log.warn("Invalid value for parameter '{}': {}", ex.getName(), ex.getValue());
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(),
+                "Invalid value for parameter '" + ex.getName() + "'", request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
     // Handle validation exceptions (@Valid)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -80,8 +145,23 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidRefreshTokenException(InvalidRefreshTokenException ex,
+            WebRequest request) {
+        log.warn("Refresh token rejected: {}", ex.getMessage());
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(),
+                request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.UNAUTHORIZED); // 401, client must sign in again
+    }
+
     @ExceptionHandler(AuthenticationException.class) // Handles bad credentials during login
     public ResponseEntity<ErrorDetails> handleAuthenticationException(AuthenticationException ex, WebRequest request) {
+        // DaoAuthenticationProvider wraps whatever the user lookup throws in InternalAuthenticationServiceException,
+        // so a sign-in shed by the hashing pool or the connection guard must be unwrapped to stay a 503, not a 401
+        if (NestedExceptionUtils.getMostSpecificCause(ex) instanceof ServiceOverloadedException overloaded) {
+            log.warn("Sign-in shed: {}", overloaded.getMessage());
+            return handleServiceOverloadedException(overloaded, request);
+        }
         log.warn("Authentication failed: {}", ex.getMessage());
         ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), "Invalid credentials.",
                 request.getDescription(false));
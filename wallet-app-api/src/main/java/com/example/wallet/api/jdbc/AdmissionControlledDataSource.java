@@ -0,0 +1,148 @@
+package com.example.wallet.api.jdbc;
+
+import com.example.wallet.api.config.ConnectionAdmissionProperties;
+import com.example.wallet.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control in front of the connection pool: at most {@code maxConcurrent} connections are out at once,
+ * waiters queue in FIFO order for at most {@code acquireTimeout}, and beyond {@code maxWaiting} queued callers new
+ * requests are shed immediately with a {@link ServiceOverloadedException} (503 + Retry-After). With virtual threads
+ * every request gets a thread, so this, not the servlet pool, is what keeps thousands of them off Hikari.
+ */
+@Slf4j
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private static final String METRIC_PREFIX = "db.connection.admission";
+
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final long acquireTimeoutNanos;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+
+    public AdmissionControlledDataSource(DataSource target, int maxConcurrent, ConnectionAdmissionProperties properties,
+                                         MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true); // Fair: no waiter starves behind later arrivals
+        this.maxWaiting = properties.getMaxWaiting();
+        this.acquireTimeoutNanos = properties.getAcquireTimeout().toNanos();
+        this.retryAfterSeconds = Math.max(1, properties.getRetryAfter().toSeconds());
+
+        Gauge.builder(METRIC_PREFIX + ".waiting", permits, Semaphore::getQueueLength)
+                .description("Callers queued for a database connection").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".available", permits, Semaphore::availablePermits)
+                .description("Connections that can be handed out without waiting").register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Connection requests shed because too many callers were waiting or the wait timed out")
+                .register(meterRegistry);
+        log.info("Database connection admission control enabled: {} concurrent, {} waiting, {} ms timeout",
+                maxConcurrent, maxWaiting, properties.getAcquireTimeout().toMillis());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return admitted(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return admitted(() -> super.getConnection(username, password));
+    }
+
+    private void acquire() {
+        // Queue length is an estimate; good enough to stop a stampede from growing the queue without bound
+        if (permits.getQueueLength() >= maxWaiting) {
+            reject("Too many requests waiting for a database connection");
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                reject("Timed out waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject("Interrupted while waiting for a database connection");
+        }
+    }
+
+    private void reject(String message) {
+        rejected.increment();
+        throw new ServiceOverloadedException(message, retryAfterSeconds);
+    }
+
+    // Hands out the pooled connection wrapped so that closing it (returning it to the pool) frees the permit once
+    private Connection admitted(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new ReleasingHandler(connection));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    private final class ReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
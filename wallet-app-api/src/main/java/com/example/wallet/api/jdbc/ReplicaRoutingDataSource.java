@@ -0,0 +1,278 @@
+package com.example.wallet.api.jdbc;
+
+import com.example.wallet.api.config.ReadReplicaProperties;
+import com.example.wallet.auth.domain.User;
+import com.example.wallet.core.cache.SharedCacheStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to read replicas and everything else to the primary.
+ * <ul>
+ *   <li>Reads are spread round-robin over the replicas whose measured lag is within {@code max-lag}; with none
+ *       healthy they fall back to the primary.</li>
+ *   <li>Read-your-writes: for {@code sticky-window} after a user commits a write, that user's reads stay on the
+ *       primary, so they never see a replica that has not caught up with their own change. The window is recorded
+ *       in the {@link SharedCacheStore} so that every instance honours it, whichever one took the write. The bundled
+ *       in-memory store only spans one JVM: with several instances behind a load balancer, plug in a networked store
+ *       or pin each user to one instance (session affinity).</li>
+ * </ul>
+ * Anonymous reads get no window, so lookups that must see a just-committed row, such as credential checks after
+ * sign-up, have to run in a read-write transaction.
+
+ * The routing decision needs the transaction's read-only flag, which Spring sets only after the connection is
+ * requested, so the router sits behind a {@link LazyConnectionDataSourceProxy} that defers the choice to the
+ * first statement.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final String PRIMARY = "primary";
+    private static final String METRIC_PREFIX = "db.replica";
+    private static final String STICKY_CACHE = "replica-sticky-writers"; // SharedCacheStore namespace
+    // Seconds of replay lag; 0 when fully replayed (an idle primary must not make a caught-up replica look stale)
+    private static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final Router router;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, ReadReplicaProperties properties,
+                                    MeterRegistry meterRegistry, Supplier<SharedCacheStore> sharedStore) {
+        this(new Router(primary, replicas, properties, meterRegistry, sharedStore));
+    }
+
+    private ReplicaRoutingDataSource(Router router) {
+        super(router);
+        this.router = router;
+    }
+
+    // Also closes the primary pool: this wrapper is what the container sees as the DataSource bean
+    @Override
+    public void close() {
+        router.close();
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile double lagSeconds;
+        private volatile boolean healthy; // Not until the first lag check passes
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    private static final class Router extends AbstractRoutingDataSource {
+
+        private final DataSource primary;
+        private final List<Replica> replicas;
+        private final double maxLagSeconds;
+        private final Cache<UUID, Boolean> recentWriters; // Users who wrote through this instance, inside their window
+        private final Supplier<SharedCacheStore> sharedStoreSupplier; // Windows started by any instance
+        private volatile SharedCacheStore sharedStore; // Resolved on first use, after startup
+        private final Duration stickyWindow;
+        private final AtomicInteger nextReplica = new AtomicInteger();
+        private final ScheduledExecutorService lagChecker;
+        private final Counter replicaReads;
+        private final Counter stickyReads;
+        private final Counter fallbackReads;
+
+        private Router(DataSource primary, Map<String, DataSource> replicaDataSources, ReadReplicaProperties properties,
+                       MeterRegistry meterRegistry, Supplier<SharedCacheStore> sharedStoreSupplier) {
+            this.primary = primary;
+            this.sharedStoreSupplier = sharedStoreSupplier;
+            this.stickyWindow = properties.getStickyWindow();
+            this.replicas = replicaDataSources.entrySet().stream().map(e -> new Replica(e.getKey(), e.getValue())).toList();
+            this.maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+            this.recentWriters = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaxStickyUsers())
+                    .expireAfterWrite(properties.getStickyWindow())
+                    .build();
+
+            Map<Object, Object> targets = new HashMap<>(replicaDataSources);
+            targets.put(PRIMARY, primary);
+            setTargetDataSources(targets);
+            setDefaultTargetDataSource(primary);
+            setLenientFallback(false); // An unknown key is a bug, not a reason to silently use the primary
+            afterPropertiesSet();
+
+            for (Replica replica : replicas) {
+                Gauge.builder(METRIC_PREFIX + ".lag", replica, r -> r.lagSeconds).tag("replica", replica.name)
+                        .baseUnit("seconds").description("Replay lag of the replica behind the primary").register(meterRegistry);
+            }
+            this.replicaReads = readCounter(meterRegistry, "replica");
+            this.stickyReads = readCounter(meterRegistry, "sticky");
+            this.fallbackReads = readCounter(meterRegistry, "no-healthy-replica");
+
+            this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-lag-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMs = properties.getLagCheckInterval().toMillis();
+            checkLag(); // Replicas take reads as soon as the first check passes
+            lagChecker.scheduleWithFixedDelay(this::checkLag, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+            log.info("Read replica routing enabled for {} ({} ms max lag, {} ms read-your-writes window)",
+                    replicaDataSources.keySet(), properties.getMaxLag().toMillis(), properties.getStickyWindow().toMillis());
+        }
+
+        private static Counter readCounter(MeterRegistry meterRegistry, String route) {
+            return Counter.builder(METRIC_PREFIX + ".reads").tag("route", route)
+                    .description("Read-only transactions by where they were routed").register(meterRegistry);
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                trackWrite(); // Writes, and anything outside a transaction (migrations, health checks)
+                return PRIMARY;
+            }
+            UUID userId = currentUserId();
+            if (userId != null && isRecentWriter(userId)) {
+                stickyReads.increment();
+                return PRIMARY;
+            }
+            int healthy = 0;
+            for (Replica replica : replicas) {
+                healthy += replica.healthy ? 1 : 0;
+            }
+            if (healthy == 0) {
+                fallbackReads.increment();
+                return PRIMARY;
+            }
+            // Round-robin over the healthy replicas
+            int pick = Math.floorMod(nextReplica.getAndIncrement(), healthy);
+            for (Replica replica : replicas) {
+                if (replica.healthy && pick-- == 0) {
+                    replicaReads.increment();
+                    return replica.name;
+                }
+            }
+            fallbackReads.increment(); // Health flipped between the two loops
+            return PRIMARY;
+        }
+
+        // Starts the user's read-your-writes window once the write transaction commits
+        private void trackWrite() {
+            UUID userId = currentUserId();
+            if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                    || !TransactionSynchronizationManager.isActualTransactionActive()) {
+                return; // Anonymous writes (sign-up) are covered by max-lag only
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(userId, Boolean.TRUE);
+                    try {
+                        sharedStore().put(STICKY_CACHE, userId, Boolean.TRUE, stickyWindow); // For the other instances
+                    } catch (RuntimeException e) {
+                        log.warn("Could not share the read-your-writes window of user {}; other instances may read "
+                                + "from a replica", userId, e);
+                    }
+                }
+            });
+        }
+
+        private boolean isRecentWriter(UUID userId) {
+            if (recentWriters.getIfPresent(userId) != null) {
+                return true; // Wrote through this instance; no round trip
+            }
+            try {
+                return sharedStore().get(STICKY_CACHE, userId) != null;
+            } catch (RuntimeException e) {
+                log.warn("Could not read the read-your-writes window of user {}; reading from the primary", userId, e);
+                return true; // The primary is never behind
+            }
+        }
+
+        private SharedCacheStore sharedStore() {
+            SharedCacheStore store = sharedStore;
+            if (store == null) {
+                store = sharedStoreSupplier.get();
+                sharedStore = store;
+            }
+            return store;
+        }
+
+        private static UUID currentUserId() {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof User user) {
+                return user.getId();
+            }
+            return null;
+        }
+
+        private void checkLag() {
+            for (Replica replica : replicas) {
+                boolean wasHealthy = replica.healthy;
+                try (Connection connection = replica.dataSource.getConnection();
+                     Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                    resultSet.next();
+                    replica.lagSeconds = resultSet.getDouble(1);
+                    replica.healthy = replica.lagSeconds <= maxLagSeconds;
+                } catch (SQLException | RuntimeException e) {
+                    replica.healthy = false;
+                    if (wasHealthy) {
+                        log.warn("Read replica {} failed its lag check; routing its reads elsewhere", replica.name, e);
+                    }
+                    continue;
+                }
+                if (wasHealthy != replica.healthy) {
+                    log.info("Read replica {} is {} ({} s behind the primary)", replica.name,
+                            replica.healthy ? "serving reads" : "too far behind, reads moved off it", replica.lagSeconds);
+                }
+            }
+        }
+
+        private void close() {
+            lagChecker.shutdownNow();
+            for (Replica replica : replicas) {
+                closePool(replica.dataSource);
+            }
+            closePool(primary);
+        }
+
+        private static void closePool(DataSource dataSource) {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    dataSource.unwrap(HikariDataSource.class).close(); // Also through the admission-control wrapper
+                }
+            } catch (SQLException e) {
+                log.warn("Could not close connection pool", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.wallet.api.jdbc;
+
+import com.example.wallet.api.config.SqlAccountingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tallies the SQL statements each request runs (see {@link SqlStatementCounter}), records them per route as
+ * {@code http.server.db.statements} and {@code http.server.db.time}, and optionally reports them in
+ * {@code X-Sql-Statements} / {@code X-Sql-Time-Ms} response headers. Requests over their statement budget are logged
+ * and counted as {@code http.server.db.budget.exceeded}, which is where N+1 regressions show up.
+ * <p>
+ * Only the request thread is counted; streamed (R2DBC) reads and async completions are not.
+ */
+@Slf4j
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+    private static final String METRIC_PREFIX = "http.server.db";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatementCounter counter;
+    private final SqlAccountingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteMeters> metersByRoute = new ConcurrentHashMap<>(); // Keyed "METHOD pattern"
+
+    public SqlAccountingFilter(SqlStatementCounter counter, SqlAccountingProperties properties, MeterRegistry meterRegistry) {
+        this.counter = counter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    private record RouteMeters(DistributionSummary statements, Timer time, Counter budgetExceeded) {
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.Tally tally = counter.begin();
+        HeaderWritingResponse headerWriter = properties.isResponseHeaders() ? new HeaderWritingResponse(response, tally) : null;
+        try {
+            filterChain.doFilter(request, headerWriter != null ? headerWriter : response);
+        } finally {
+            counter.end();
+            if (headerWriter != null && !response.isCommitted()) {
+                headerWriter.writeHeaders(); // Bodyless responses (204, 304) are committed by the container afterwards
+            }
+            record(request, tally);
+        }
+    }
+
+    // --- Helper methods ---
+
+    private void record(HttpServletRequest request, SqlStatementCounter.Tally tally) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI; // Route template keeps tag cardinality bounded
+        String route = request.getMethod() + " " + uri;
+        RouteMeters meters = metersByRoute.computeIfAbsent(route, key -> routeMeters(request.getMethod(), uri));
+        meters.statements().record(tally.statements());
+        meters.time().record(tally.nanos(), TimeUnit.NANOSECONDS);
+
+        int budget = properties.budgetFor(route);
+        if (budget > 0 && tally.statements() > budget) {
+            meters.budgetExceeded().increment();
+            log.warn("{} ran {} SQL statements, over its budget of {}; look for N+1 queries", route, tally.statements(), budget);
+        } else {
+            log.debug("{} ran {} SQL statements in {} ms", route, tally.statements(), millis(tally));
+        }
+    }
+
+    private RouteMeters routeMeters(String method, String uri) {
+        return new RouteMeters(
+                DistributionSummary.builder(METRIC_PREFIX + ".statements").tags("method", method, "uri", uri)
+                        .baseUnit("statements").description("SQL statements executed per request").register(meterRegistry),
+                Timer.builder(METRIC_PREFIX + ".time").tags("method", method, "uri", uri)
+                        .description("Time spent executing SQL per request").register(meterRegistry),
+                Counter.builder(METRIC_PREFIX + ".budget.exceeded").tags("method", method, "uri", uri)
+                        .description("Requests that ran more SQL statements than their budget").register(meterRegistry));
+    }
+
+    private static String millis(SqlStatementCounter.Tally tally) {
+        return String.format(Locale.ROOT, "%.3f", tally.nanos() / 1_000_000.0);
+    }
+
+    // Headers must go out before the body commits the response; by then the handler's queries have run
+    private static final class HeaderWritingResponse extends OnCommittedResponseWrapper {
+
+        private final SqlStatementCounter.Tally tally;
+        private boolean written;
+
+        private HeaderWritingResponse(HttpServletResponse response, SqlStatementCounter.Tally tally) {
+            super(response);
+            this.tally = tally;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders();
+        }
+
+        void writeHeaders() {
+            if (written) {
+                return;
+            }
+            written = true;
+            setHeader(STATEMENTS_HEADER, Integer.toString(tally.statements()));
+            setHeader(TIME_HEADER, millis(tally));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.wallet.api.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Counts JDBC statement executions and their time on the current thread while a {@link Tally} is open.
+ * A batch counts as one execution (one round trip). Statements outside an open tally, such as those of the outbox
+ * relay or other background work, are not counted.
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private static final String START_NANOS = SqlStatementCounter.class.getName() + ".start";
+
+    private final ThreadLocal<Tally> current = new ThreadLocal<>();
+
+    /** Statements executed on one thread between {@link #begin()} and {@link #end()}. */
+    public static final class Tally {
+
+        private int statements;
+        private long nanos;
+
+        public int statements() {
+            return statements;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+    }
+
+    /** Starts counting on this thread; the returned tally keeps updating until {@link #end()}. */
+    public Tally begin() {
+        Tally tally = new Tally();
+        current.set(tally);
+        return tally;
+    }
+
+    public void end() {
+        current.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (current.get() != null) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Tally tally = current.get();
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (tally == null || start == null) {
+            return;
+        }
+        tally.statements++;
+        tally.nanos += System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.wallet.api.mapper;
+
+import com.example.wallet.api.dto.ChangeEventDto;
+import com.example.wallet.core.event.ChangeEvent;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // Static methods only
+public class ChangeEventMapper {
+
+    public static ChangeEventDto toDto(ChangeEvent event) {
+        if (event == null) {
+            return null;
+        }
+        return new ChangeEventDto(
+                event.type().name(),
+                event.spaceId(),
+                event.transactionId(),
+                event.type() == ChangeEvent.Type.TRANSACTIONS_CREATED ? event.count() : null,
+                event.changeSeq() != null ? CursorMapper.toSyncToken(event.changeSeq()) : null);
+    }
+}
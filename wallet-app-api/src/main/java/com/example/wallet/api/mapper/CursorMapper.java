@@ -0,0 +1,72 @@
+package com.example.wallet.api.mapper;
+
+import com.example.wallet.common.exception.InvalidRequestException;
+import com.example.wallet.core.domain.TransactionCursor;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Converts keyset positions to and from the opaque cursor tokens handed to clients.
+ * Clients must treat the token as a black box; the encoding may change between releases.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // Static methods only
+public class CursorMapper {
+
+    private static final String SEPARATOR = "|";
+    private static final String SYNC_PREFIX = "s";
+
+    public static String toToken(TransactionCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.transactionDate() + SEPARATOR + cursor.createdAt() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor fromToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Unexpected cursor layout");
+            }
+            return new TransactionCursor(LocalDate.parse(parts[0]), OffsetDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid pagination cursor", e);
+        }
+    }
+
+    public static String toSyncToken(long changeSeq) {
+        String raw = SYNC_PREFIX + changeSeq;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // A missing token means "from the beginning"
+    public static long fromSyncToken(String token) {
+        if (token == null || token.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(SYNC_PREFIX)) {
+                throw new IllegalArgumentException("Unexpected cursor layout");
+            }
+            long changeSeq = Long.parseLong(raw.substring(SYNC_PREFIX.length()));
+            if (changeSeq < 0) {
+                throw new IllegalArgumentException("Negative change sequence");
+            }
+            return changeSeq;
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid sync cursor", e);
+        }
+    }
+}
\ No newline at end of file
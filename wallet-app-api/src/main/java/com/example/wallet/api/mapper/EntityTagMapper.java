@@ -0,0 +1,64 @@
+package com.example.wallet.api.mapper;
+
+import com.example.wallet.core.domain.Space;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.CacheControl;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds strong ETags from the version counters and timestamps the entities already carry, so a
+ * conditional GET can be answered before the response body is loaded or serialized.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // Static methods only
+public class EntityTagMapper {
+
+    // Clients and shared caches may store the response but must revalidate it (If-None-Match) before every use
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    public static String forSpace(Space space) {
+        return space.getVersion() + "-" + Long.toHexString(toEpochMillis(space.getUpdatedAt()));
+    }
+
+    // Digest of every (id, version, updatedAt) in list order: changes on create, update, delete and reordering
+    public static String forSpaceList(List<Space> spaces) {
+        MessageDigest digest = sha256();
+        ByteBuffer entry = ByteBuffer.allocate(4 * Long.BYTES);
+        for (Space space : spaces) {
+            UUID id = space.getId();
+            entry.clear();
+            entry.putLong(id.getMostSignificantBits())
+                    .putLong(id.getLeastSignificantBits())
+                    .putLong(space.getVersion())
+                    .putLong(toEpochMillis(space.getUpdatedAt()));
+            digest.update(entry.array());
+        }
+        byte[] hash = digest.digest();
+        return spaces.size() + "-" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22);
+    }
+
+    // Any write to the space's transactions raises its last change sequence; the page size is part of the representation
+    public static String forTransactionPage(long lastChangeSeq, int pageSize) {
+        return lastChangeSeq + "-" + pageSize;
+    }
+
+    // Millisecond precision: the in-memory value after a write has more digits than the column stores
+    private static long toEpochMillis(OffsetDateTime timestamp) {
+        return timestamp == null ? 0 : timestamp.toInstant().toEpochMilli();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e); // Mandatory algorithm on every JVM
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.wallet.api.mapper;
 
+import com.example.wallet.api.dto.PeriodTotalsDto;
+import com.example.wallet.api.dto.SpaceAnalyticsDto;
 import com.example.wallet.api.dto.SpaceDto;
+import com.example.wallet.api.dto.SpaceSummaryDto;
+import com.example.wallet.core.domain.AnalyticsBucket;
+import com.example.wallet.core.domain.PeriodTotals;
 import com.example.wallet.core.domain.Space;
+import com.example.wallet.core.domain.SpaceSummary;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE) // Static methods only
@@ -33,4 +41,31 @@ public class SpaceMapper {
                 .map(SpaceMapper::toDto)
                 .collect(Collectors.toList());
     }
+
+    public static SpaceSummaryDto toSummaryDto(SpaceSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        return new SpaceSummaryDto(
+                summary.getSpaceId(),
+                summary.getBalance(),
+                summary.getTotalIncome(),
+                summary.getTotalExpense(),
+                summary.getTransactionCount(),
+                summary.getLastActivityAt()
+        );
+    }
+
+    public static SpaceAnalyticsDto toAnalyticsDto(UUID spaceId, AnalyticsBucket bucket, LocalDate from, LocalDate to,
+            List<PeriodTotals> totals) {
+        return new SpaceAnalyticsDto(
+                spaceId,
+                bucket,
+                from,
+                to,
+                totals.stream()
+                        .map(t -> new PeriodTotalsDto(t.periodStart(), t.type(), t.total(), t.count()))
+                        .collect(Collectors.toList())
+        );
+    }
 }
\ No newline at end of file
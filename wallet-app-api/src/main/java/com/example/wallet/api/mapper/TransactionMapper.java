@@ -1,11 +1,27 @@
 package com.example.wallet.api.mapper;
 
+import com.example.wallet.api.dto.BatchCreateTransactionsResponse;
+import com.example.wallet.api.dto.BatchItemResultDto;
+import com.example.wallet.api.dto.CreateTransactionRequest;
+import com.example.wallet.api.dto.SyncChangeDto;
+import com.example.wallet.api.dto.SyncChangesDto;
 import com.example.wallet.api.dto.TransactionDto;
+import com.example.wallet.api.dto.TransactionPageDto;
+import com.example.wallet.api.dto.TransactionTombstoneDto;
+import com.example.wallet.core.domain.NewTransaction;
+import com.example.wallet.core.domain.SyncBatch;
+import com.example.wallet.core.domain.SyncChange;
 import com.example.wallet.core.domain.Transaction;
+import com.example.wallet.core.domain.TransactionBatchResult;
+import com.example.wallet.core.domain.TransactionPage;
+import com.example.wallet.core.domain.TransactionTombstone;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -35,4 +51,72 @@ public class TransactionMapper {
                 .map(TransactionMapper::toDto)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    public static TransactionPageDto toPageDto(TransactionPage page) {
+        return new TransactionPageDto(
+                toDtoList(page.items()),
+                CursorMapper.toToken(page.nextCursor()),
+                page.hasMore()
+        );
+    }
+
+    public static TransactionTombstoneDto toTombstoneDto(TransactionTombstone tombstone) {
+        if (tombstone == null) {
+            return null;
+        }
+        return new TransactionTombstoneDto(
+                tombstone.getId(),
+                tombstone.getSpaceId(),
+                tombstone.getDeletedAt()
+        );
+    }
+
+    public static SyncChangesDto toSyncDto(SyncBatch batch) {
+        return new SyncChangesDto(
+                toDtoList(batch.upserts()),
+                batch.deletions().stream()
+                        .map(TransactionMapper::toTombstoneDto)
+                        .collect(Collectors.toList()),
+                CursorMapper.toSyncToken(batch.nextChangeSeq()),
+                batch.hasMore()
+        );
+    }
+
+    public static SyncChangeDto toSyncChangeDto(SyncChange change) {
+        return new SyncChangeDto(
+                CursorMapper.toSyncToken(change.changeSeq()),
+                change.isDeletion() ? null : toDto(change.upsert()),
+                change.isDeletion() ? toTombstoneDto(change.deletion()) : null
+        );
+    }
+
+    public static NewTransaction toNewTransaction(CreateTransactionRequest request) {
+        return new NewTransaction(
+                request.getSpaceId(),
+                request.getType(),
+                request.getAmount(),
+                request.getTransactionDate(),
+                request.getDescription()
+        );
+    }
+
+    // Lines up per-item validation failures and the service outcome with the request items
+    public static BatchCreateTransactionsResponse toBatchResponse(List<CreateTransactionRequest> items,
+            Map<Integer, Map<String, String>> invalidItems, TransactionBatchResult result) {
+        Iterator<Transaction> created = result.created().iterator(); // Same order as the accepted items
+        List<BatchItemResultDto> results = new ArrayList<>(items.size());
+        for (int index = 0; index < items.size(); index++) {
+            Map<String, String> errors = invalidItems.get(index);
+            if (errors != null) {
+                results.add(new BatchItemResultDto(index, BatchItemResultDto.Status.INVALID, null, errors));
+            } else if (result.inaccessibleSpaceIds().contains(items.get(index).getSpaceId())) {
+                results.add(new BatchItemResultDto(index, BatchItemResultDto.Status.SPACE_NOT_FOUND, null,
+                        Map.of("spaceId", "Space not found: " + items.get(index).getSpaceId())));
+            } else {
+                results.add(new BatchItemResultDto(index, BatchItemResultDto.Status.CREATED, toDto(created.next()), null));
+            }
+        }
+        int createdCount = result.created().size();
+        return new BatchCreateTransactionsResponse(createdCount, items.size() - createdCount, results);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.wallet.api.metrics;
+
+import com.example.wallet.api.dto.SyncChangesDto;
+import com.example.wallet.api.dto.TransactionPageDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how many rows each list and sync response carries, as {@code http.server.response.rows{uri}}, so payload
+ * size can be read next to {@code http.server.requests} latency for the same endpoint. JSON bodies are counted on the
+ * way out; streamed endpoints opt in with {@link #counted(Flux)}.
+ */
+@ControllerAdvice
+public class ResponseRowMetrics implements ResponseBodyAdvice<Object> {
+
+    private static final String METRIC_NAME = "http.server.response.rows";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>(); // One per route pattern
+
+    public ResponseRowMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true; // Decided per body in beforeBodyWrite; ResponseEntity hides the body type here
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        long rows = rowCount(body);
+        if (rows >= 0 && request instanceof ServletServerHttpRequest servletRequest) {
+            summary(uriPattern(servletRequest.getServletRequest())).record(rows);
+        }
+        return body;
+    }
+
+    /** Counts the elements of a streamed response; call on the request thread, where the route is known. */
+    public <T> Flux<T> counted(Flux<T> rows) {
+        DistributionSummary summary = summary(uriPattern(currentRequest()));
+        return Flux.defer(() -> {
+            AtomicLong count = new AtomicLong();
+            return rows.doOnNext(row -> count.incrementAndGet())
+                    .doFinally(signal -> summary.record(count.get())); // Cancelled streams record what was sent
+        });
+    }
+
+    // --- Helper methods ---
+
+    // -1 for bodies that are not row listings (single resources, errors, ...)
+    private static long rowCount(Object body) {
+        if (body instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (body instanceof TransactionPageDto page) {
+            return page.getItems() != null ? page.getItems().size() : 0;
+        }
+        if (body instanceof SyncChangesDto changes) {
+            return (changes.getUpserts() != null ? changes.getUpserts().size() : 0)
+                    + (changes.getDeletions() != null ? changes.getDeletions().size() : 0);
+        }
+        return -1;
+    }
+
+    // Route template rather than the raw path, so ids do not explode the tag's cardinality
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request != null ? request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) : null;
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest() : null;
+    }
+
+    private DistributionSummary summary(String uri) {
+        return summaries.computeIfAbsent(uri, key -> DistributionSummary.builder(METRIC_NAME)
+                .tag("uri", key)
+                .baseUnit("rows")
+                .description("Rows returned per list or sync response")
+                .register(meterRegistry));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.wallet.api.security;
 
 import com.example.wallet.api.service.JwtService;
+import com.example.wallet.api.service.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +26,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService; // Inject Spring's UserDetailsService
+    private final PrincipalCache principalCache; // Avoids a users-table lookup on every authenticated request
+    private final VerifiedTokenCache verifiedTokenCache; // Skips HMAC verification for tokens seen before
 
     @Override
     protected void doFilterInternal(
@@ -46,15 +49,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7); // Extract token after "Bearer "
 
         try {
-            username = jwtService.extractUsername(jwt);
+            VerifiedToken token = verifiedTokenCache.verify(jwt); // At most one signature check per distinct token
+            if (token.isRefreshToken()) {
+                // Refresh tokens are only accepted by /auth/refresh, never as bearer credentials
+                log.warn("Refresh token presented as bearer token; ignoring.");
+                filterChain.doFilter(request, response);
+                return;
+            }
+            username = token.subject();
 
             // If username extracted and no authentication in current security context
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // Load user details from database
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                // Load user details from the principal cache, falling back to the database
+                UserDetails userDetails = principalCache.get(username, userDetailsService::loadUserByUsername);
 
                 // Validate token against user details
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(token, userDetails)) {
                     // Create authentication token
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails, // Use UserDetails object as principal
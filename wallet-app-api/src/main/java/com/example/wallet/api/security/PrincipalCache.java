@@ -0,0 +1,56 @@
+package com.example.wallet.api.security;
+
+import com.example.wallet.api.config.PrincipalCacheProperties;
+import com.example.wallet.auth.domain.User;
+import com.example.wallet.auth.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by JWT subject, so authenticated
+ * requests do not query the users table. Entries are dropped when the user row changes.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final boolean enabled;
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(PrincipalCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats() // Exposed as cache.gets{result=hit|miss}, cache.evictions, ...
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /** Returns the cached principal for the subject, loading (and caching) it on a miss. Load failures are not cached. */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        if (!enabled) {
+            return loader.apply(username);
+        }
+        // Lookups are case-insensitive (see UserDetailsServiceImpl), so keys are too
+        return cache.get(username.toLowerCase(Locale.ROOT), key -> loader.apply(username));
+    }
+
+    // After commit, so a concurrent request cannot re-cache the pre-change row; runs immediately outside transactions
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("Evicting cached principal for user {}", event.userId());
+        // Match on id as well so a renamed user does not linger under the old username
+        cache.asMap().entrySet().removeIf(entry -> entry.getKey().equalsIgnoreCase(event.username())
+                || (entry.getValue() instanceof User user && event.userId().equals(user.getId())));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.wallet.api.security;
+
+import com.example.wallet.api.config.TokenCacheProperties;
+import com.example.wallet.api.service.JwtService;
+import com.example.wallet.api.service.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of verified tokens keyed by a SHA-256 digest of the raw token, so repeat requests
+ * with the same token skip signature verification and claim decoding. Each entry expires at the
+ * token's own {@code exp}; raw tokens are never held in memory.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String METRIC_PREFIX = "auth.jwt.verification";
+
+    private final JwtService jwtService;
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    public VerifiedTokenCache(JwtService jwtService, TokenCacheProperties properties, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats() // Exposed as cache.gets{cache=verified-tokens,result=hit|miss}, cache.evictions, ...
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verified-tokens");
+        // Cache hits are not timed; these are the requests that paid for signature verification
+        this.validTimer = Timer.builder(METRIC_PREFIX).tag("result", "valid")
+                .description("Time spent verifying JWT signatures and decoding claims").register(meterRegistry);
+        this.invalidTimer = Timer.builder(METRIC_PREFIX).tag("result", "invalid")
+                .description("Time spent rejecting malformed, tampered or expired JWTs").register(meterRegistry);
+    }
+
+    /** Same contract as {@link JwtService#verify(String)}; invalid tokens throw and are never cached. */
+    public VerifiedToken verify(String token) {
+        if (!enabled) {
+            return verifySignature(token);
+        }
+        String key = digest(token);
+        VerifiedToken verified = cache.get(key, k -> verifySignature(token));
+        // Caffeine expiry is lazy on the read path; never hand out a token past its exp
+        if (verified.isExpired()) {
+            cache.invalidate(key);
+            return verifySignature(token); // Throws ExpiredJwtException like the uncached path
+        }
+        return verified;
+    }
+
+    private VerifiedToken verifySignature(String token) {
+        long start = System.nanoTime();
+        try {
+            VerifiedToken verified = jwtService.verify(token);
+            validTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return verified;
+        } catch (RuntimeException e) {
+            invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256"); // Not thread-safe, so one per call
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e); // Mandatory on every JRE
+        }
+    }
+
+    // Entries live exactly until the token's exp; tokens without exp are not retained
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Date expiration = value.expiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMs = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
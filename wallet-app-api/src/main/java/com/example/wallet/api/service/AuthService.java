@@ -4,6 +4,7 @@ import com.example.wallet.auth.domain.Role;
 import com.example.wallet.auth.domain.User;
 import com.example.wallet.auth.exception.UserAlreadyExistsException;
 import com.example.wallet.auth.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed("wallet.service") // Per-method latency histograms: wallet.service{class,method,exception}
 public class AuthService {
 
     private final UserRepository userRepository;
@@ -0,0 +1,291 @@
+package com.example.wallet.api.service;
+
+import com.example.wallet.api.config.ChangeStreamProperties;
+import com.example.wallet.api.dto.ChangeEventDto;
+import com.example.wallet.api.mapper.ChangeEventMapper;
+import com.example.wallet.common.exception.ServiceOverloadedException;
+import com.example.wallet.core.event.ChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed {@link ChangeEvent}s to the user's open server-sent event streams on this instance.
+ * Publishing never blocks the writer: each stream has a bounded buffer drained by an elastic sender pool, and a
+ * client that lets its buffer fill up is disconnected (it reconnects and catches up through /transactions/sync).
+ * Socket writes block, so a client that stops reading but keeps its connection open pins the thread writing to it;
+ * a watchdog detaches any stream whose write has been blocked past the send timeout, and the pool starts another
+ * thread for the remaining streams instead of queueing them behind the stalled one.
+ * Heartbeat comments keep idle streams alive through proxies and flush out dead connections.
+ */
+@Service
+@Slf4j
+public class ChangeStreamService implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "events.stream";
+    private static final Object HEARTBEAT = new Object(); // Queue marker for a heartbeat comment
+
+    private final ChangeStreamProperties properties;
+    private final Map<UUID, Deque<Session>> sessionsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeats;
+    private final Counter slowConsumerDisconnects;
+    private final Counter rejected;
+
+    public ChangeStreamService(ChangeStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // Core = max with core timeout: threads start per drain up to the ceiling and retire after a minute idle, so
+        // one blocked write never leaves other streams waiting for a free thread. Unbounded task queue is fine: a
+        // stream has at most one drain task queued at a time
+        ThreadPoolExecutor senderPool = new ThreadPoolExecutor(properties.getSenderThreads(), properties.getSenderThreads(),
+                1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        senderPool.allowCoreThreadTimeOut(true);
+        this.sender = senderPool;
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatMs = properties.getHeartbeatInterval().toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        long watchdogMs = Math.max(100, properties.getSendTimeout().toMillis() / 2);
+        heartbeats.scheduleAtFixedRate(this::detachStalledSessions, watchdogMs, watchdogMs, TimeUnit.MILLISECONDS);
+
+        new ExecutorServiceMetrics(sender, "change-stream", List.of()).bindTo(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".sessions", sessionCount, AtomicInteger::get)
+                .description("Open server-sent event streams on this instance").register(meterRegistry);
+        this.slowConsumerDisconnects = Counter.builder(METRIC_PREFIX + ".slow.consumers")
+                .description("Streams closed because the client fell a full buffer behind or stopped reading")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Streams refused because the instance-wide limit was reached").register(meterRegistry);
+    }
+
+    /** Opens a stream for the user; the user's oldest stream is closed when they already have the maximum. */
+    public SseEmitter open(UUID userId) {
+        if (sessionCount.incrementAndGet() > properties.getMaxSessions()) {
+            sessionCount.decrementAndGet();
+            rejected.increment();
+            log.warn("Change stream limit of {} reached; refusing stream for user {}", properties.getMaxSessions(), userId);
+            throw new ServiceOverloadedException("Too many open event streams, please retry shortly",
+                    Math.max(1, properties.getRetryAfter().toSeconds()));
+        }
+        Session session = new Session(userId, new SseEmitter(properties.getSessionTimeout().toMillis()));
+        session.emitter.onCompletion(() -> unregister(session));
+        session.emitter.onTimeout(session::close); // Normal expiry; the client's EventSource reconnects
+        session.emitter.onError(error -> session.close());
+
+        List<Session> evicted = new ArrayList<>();
+        sessionsByUser.compute(userId, (id, sessions) -> {
+            Deque<Session> userSessions = sessions != null ? sessions : new ConcurrentLinkedDeque<>();
+            userSessions.addLast(session);
+            while (userSessions.size() > properties.getMaxSessionsPerUser()) {
+                evicted.add(userSessions.removeFirst());
+            }
+            return userSessions;
+        });
+        evicted.forEach(oldest -> {
+            log.debug("User {} opened more than {} event streams; closing the oldest", userId, properties.getMaxSessionsPerUser());
+            oldest.close();
+        });
+
+        session.offer(SseEmitter.event().name("ready").reconnectTime(properties.getRetryAfter().toMillis()));
+        log.debug("Opened change stream for user {} ({} open on this instance)", userId, sessionCount.get());
+        return session.emitter;
+    }
+
+    // After commit only, so clients never hear about a write that was rolled back
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        Deque<Session> sessions = sessionsByUser.get(event.userId());
+        if (sessions == null) {
+            return; // Nobody listening, which is the common case
+        }
+        ChangeEventDto dto = ChangeEventMapper.toDto(event);
+        sessions.forEach(session ->
+                session.offer(SseEmitter.event().name("change").data(dto, MediaType.APPLICATION_JSON)));
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+        sessionsByUser.values().forEach(sessions -> sessions.forEach(Session::close));
+        sender.shutdown();
+    }
+
+    // --- Helper methods ---
+
+    private void sendHeartbeats() {
+        try {
+            sessionsByUser.values().forEach(sessions -> sessions.forEach(session -> session.offer(HEARTBEAT)));
+        } catch (RuntimeException e) {
+            log.warn("Change stream heartbeat round failed", e); // Never let the scheduled task die
+        }
+    }
+
+    private void detachStalledSessions() {
+        try {
+            long now = System.nanoTime();
+            long timeoutNanos = properties.getSendTimeout().toNanos();
+            sessionsByUser.values().forEach(sessions -> sessions.forEach(session -> {
+                long started = session.sendStartedNanos;
+                if (started != 0 && now - started > timeoutNanos) {
+                    session.detachStalled();
+                }
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Change stream watchdog round failed", e); // Never let the scheduled task die
+        }
+    }
+
+    private void unregister(Session session) {
+        if (!session.registered.compareAndSet(true, false)) {
+            return;
+        }
+        sessionCount.decrementAndGet();
+        sessionsByUser.computeIfPresent(session.userId, (id, sessions) -> {
+            sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    private final class Session {
+
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        private final AtomicBoolean draining = new AtomicBoolean(); // At most one sender thread per stream
+        private final AtomicBoolean registered = new AtomicBoolean(true);
+        private volatile boolean closed;
+        private volatile boolean completed; // Emitter completed (or found dead); only written by the draining thread
+        private volatile long sendStartedNanos; // Non-zero while a socket write is in progress
+
+        private Session(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        // Called from committing request threads and the heartbeat thread; never blocks
+        void offer(Object item) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(item)) {
+                slowConsumerDisconnects.increment();
+                log.info("Change stream of user {} is {} events behind; disconnecting slow consumer", userId, buffer.size());
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        // Completing happens on a sender thread: a write blocked on a stalled socket holds the emitter's lock
+        void close() {
+            closed = true;
+            buffer.clear();
+            unregister(this);
+            scheduleDrain();
+        }
+
+        // The blocked write holds the emitter's lock, so the emitter is left alone here: the stream stops receiving
+        // events and frees its slot now, and the drain completes the emitter once the write returns or fails
+        void detachStalled() {
+            if (closed) {
+                return;
+            }
+            slowConsumerDisconnects.increment();
+            log.info("Change stream write to user {} blocked for over {}; detaching stalled consumer",
+                    userId, properties.getSendTimeout());
+            closed = true;
+            buffer.clear();
+            unregister(this);
+            scheduleDrain(); // No-op while the blocked drain holds the flag; completes the emitter if the write just returned
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false); // Shutting down
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Object item;
+                while (!closed && (item = buffer.poll()) != null) {
+                    send(item);
+                }
+                if (closed && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away (or the emitter already completed); the emitter callbacks unregister it
+                log.debug("Change stream of user {} closed while sending: {}", userId, e.getMessage());
+                closed = true;
+                completed = true;
+                buffer.clear();
+                unregister(this);
+            } finally {
+                draining.set(false);
+            }
+            // Recheck after releasing the flag: an event may have arrived after the last poll, or close() or
+            // detachStalled() may have run after the closed check above and lost the race for the flag. Without
+            // this the emitter would never complete and the client would sit on a silent stream until session-timeout.
+            if (closed ? !completed : !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(Object item) throws IOException {
+            sendStartedNanos = System.nanoTime();
+            try {
+                if (item == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    emitter.send((SseEmitter.SseEventBuilder) item);
+                }
+            } finally {
+                sendStartedNanos = 0;
+            }
+        }
+    }
+}
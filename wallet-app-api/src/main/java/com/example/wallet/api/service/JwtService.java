@@ -2,10 +2,12 @@ package com.example.wallet.api.service;
 
 import com.example.wallet.auth.domain.User; // Need User to get ID/details
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -14,6 +16,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
@@ -29,6 +32,36 @@ public class JwtService {
     @Value("${app.jwt.refresh-token-expiration-ms}")
     private long refreshTokenExpiration;
 
+    // Distinguishes refresh tokens so they cannot be used as bearer access tokens
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    // Built once: decoding the secret and assembling a parser per call showed up on every request
+    private Key signingKey;
+    private JwtParser jwtParser; // Immutable and thread-safe
+
+    @PostConstruct
+    void initSigningKey() {
+        try {
+            byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
+            this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        } catch (RuntimeException e) {
+            // Fail at startup rather than on the first sign-in
+            throw new IllegalStateException("app.jwt.secret must be a Base64-encoded key of at least 256 bits", e);
+        }
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    /**
+     * Verifies signature and expiry once and returns the claims for reuse.
+     * Throws {@link io.jsonwebtoken.JwtException} for malformed, tampered or expired tokens.
+     */
+    public VerifiedToken verify(String token) {
+        return new VerifiedToken(extractAllClaims(token));
+    }
+
     // Extract username (subject) from token
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -51,48 +84,44 @@ public class JwtService {
         return buildToken(extraClaims, userDetails, accessTokenExpiration);
     }
 
-    // Generate refresh token
-    public String generateRefreshToken(UserDetails userDetails) {
-        // Refresh tokens typically don't need extra claims other than subject
-        return buildToken(new HashMap<>(), userDetails, refreshTokenExpiration);
+    // Generate refresh token; tokenId (jti) references the server-side RefreshToken row
+    public String generateRefreshToken(UserDetails userDetails, UUID tokenId) {
+        Map<String, Object> extraClaims = new HashMap<>();
+        extraClaims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        extraClaims.put(Claims.ID, tokenId.toString());
+        return buildToken(extraClaims, userDetails, refreshTokenExpiration);
     }
 
-    // Validate token
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    public long getRefreshTokenExpirationMs() {
+        return refreshTokenExpiration;
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // Validate already-verified claims against the loaded user (no re-parsing)
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return userDetails.getUsername().equals(token.subject()) && !token.isExpired();
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    // Validate token
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(verify(token), userDetails);
     }
 
     // --- Helper methods ---
 
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser
+                .parseClaimsJws(token) // Verifies the signature and rejects expired tokens
                 .getBody();
     }
-
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package com.example.wallet.api.service;
+
+import com.example.wallet.api.dto.JwtAuthenticationResponse;
+import com.example.wallet.auth.domain.RefreshToken;
+import com.example.wallet.auth.domain.User;
+import com.example.wallet.auth.exception.InvalidRefreshTokenException;
+import com.example.wallet.auth.repository.RefreshTokenRepository;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens. Every refresh token is single-use: exchanging it marks it used and
+ * issues a successor in the same family. Presenting a used token again revokes the whole family.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+
+    /** Starts a new token family after a successful password sign-in. */
+    @Transactional
+    public JwtAuthenticationResponse issueTokens(User user) {
+        // Keeps the table bounded without a background job
+        refreshTokenRepository.deleteExpiredForUser(user.getId(), OffsetDateTime.now());
+        return issue(user, UUID.randomUUID());
+    }
+
+    /** Exchanges a refresh token for a new access/refresh pair: one indexed lookup and an HMAC, no BCrypt. */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class) // Family revocation must survive the rejection
+    public JwtAuthenticationResponse rotate(String refreshToken) {
+        UUID tokenId = verifiedTokenId(refreshToken);
+
+        RefreshToken stored = refreshTokenRepository.findByIdForUpdate(tokenId)
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token is invalid or expired"));
+
+        if (stored.isRevoked() || stored.getUsedAt() != null) {
+            // Reuse of a rotated token: either the client or an attacker holds a stolen copy
+            log.warn("Refresh token reuse detected for user {}; revoking token family {}",
+                    stored.getUser().getId(), stored.getFamilyId());
+            refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token has already been used");
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        if (stored.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException("Refresh token is invalid or expired");
+        }
+
+        User user = stored.getUser(); // Fetched with the token
+        if (!user.isEnabled() || !user.isAccountNonLocked()) {
+            refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            throw new InvalidRefreshTokenException("User account is disabled");
+        }
+
+        stored.setUsedAt(now);
+        log.debug("Rotating refresh token {} for user {}", tokenId, user.getId());
+        return issue(user, stored.getFamilyId());
+    }
+
+    // --- Helper methods ---
+
+    private JwtAuthenticationResponse issue(User user, UUID familyId) {
+        RefreshToken token = refreshTokenRepository.save(RefreshToken.builder()
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(OffsetDateTime.now().plusNanos(jwtService.getRefreshTokenExpirationMs() * 1_000_000))
+                .build());
+
+        String accessToken = jwtService.generateToken(user);
+        String refreshToken = jwtService.generateRefreshToken(user, token.getId());
+        return new JwtAuthenticationResponse(accessToken, refreshToken);
+    }
+
+    // Signature, expiry and token type are checked before touching the database
+    private UUID verifiedTokenId(String refreshToken) {
+        try {
+            VerifiedToken verified = jwtService.verify(refreshToken);
+            if (!verified.isRefreshToken() || verified.tokenId() == null) {
+                throw new InvalidRefreshTokenException("Not a refresh token");
+            }
+            return UUID.fromString(verified.tokenId());
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidRefreshTokenException("Refresh token is invalid or expired");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.wallet.api.service;
+
+import com.example.wallet.api.dto.TransactionDto;
+import com.example.wallet.api.mapper.TransactionMapper;
+import com.example.wallet.core.service.TransactionService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * Writes a user's full transaction history as CSV or NDJSON. Rows are mapped and serialized one at a time
+ * straight from the database cursor, so memory use does not depend on the number of rows.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionExportService {
+
+    // The import's columns plus id and timestamps (which the import ignores), so an export can be re-imported as is
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("spaceId")
+            .addColumn("type")
+            .addColumn("amount")
+            .addColumn("transactionDate")
+            .addColumn("description")
+            .addColumn("createdAt")
+            .addColumn("updatedAt")
+            .build()
+            .withHeader();
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final TransactionService transactionService;
+    private final ObjectMapper objectMapper; // Same JSON shape as the rest of the API
+
+    /** Streams all transactions of the user to {@code output} (flushed, not closed) and returns the row count. */
+    public long export(UUID userId, TransactionFileFormat format, OutputStream output) throws IOException {
+        long count;
+        try (SequenceWriter writer = openWriter(format, output)) {
+            count = transactionService.exportTransactionsForUser(userId, transaction -> {
+                try {
+                    writer.write(TransactionMapper.toDto(transaction));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // Client disconnected; closes the cursor and ends the export
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (format == TransactionFileFormat.NDJSON && count > 0) {
+            output.write('\n'); // The root value separator only goes between rows
+        }
+        output.flush();
+        return count;
+    }
+
+    private SequenceWriter openWriter(TransactionFileFormat format, OutputStream output) throws IOException {
+        ObjectWriter writer = switch (format) {
+            case CSV -> CSV_MAPPER.writerFor(TransactionDto.class).with(CSV_SCHEMA);
+            case NDJSON -> objectMapper.writerFor(TransactionDto.class).withRootValueSeparator("\n");
+        };
+        return writer
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE) // Let the buffers fill instead of one chunk per row
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)      // The servlet container owns the response stream
+                .writeValues(output);
+    }
+}
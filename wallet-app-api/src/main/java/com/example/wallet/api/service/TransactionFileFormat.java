@@ -0,0 +1,37 @@
+package com.example.wallet.api.service;
+
+import com.example.wallet.common.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+// File formats accepted by the transaction import and produced by the export
+public enum TransactionFileFormat {
+    CSV("text/csv", "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+
+    TransactionFileFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /** Parses a ?format= value (case-insensitive). */
+    public static TransactionFileFormat fromParameter(String value) {
+        try {
+            return TransactionFileFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Unsupported format: " + value + " (expected csv or ndjson)");
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.wallet.api.service;
+
+import com.example.wallet.api.config.TransactionImportProperties;
+import com.example.wallet.api.dto.CreateTransactionRequest;
+import com.example.wallet.api.dto.ImportEventDto;
+import com.example.wallet.api.mapper.TransactionMapper;
+import com.example.wallet.common.exception.InvalidRequestException;
+import com.example.wallet.core.domain.NewTransaction;
+import com.example.wallet.core.domain.TransactionBatchResult;
+import com.example.wallet.core.service.TransactionService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams CSV or NDJSON transaction files into the database in bounded chunks. Only one chunk of rows is held in
+ * memory; the next chunk is read only after the previous one has been committed, so a slow database throttles
+ * the upload instead of growing the heap.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionImportService {
+
+    // Header row names the columns: spaceId,type,amount,transactionDate,description
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .build();
+
+    private final TransactionService transactionService;
+    private final TransactionImportProperties properties;
+    private final ObjectMapper objectMapper; // Spring's mapper: java.time support, unknown columns ignored
+    private final Validator validator;
+
+    /** Picks the format from an explicit value, then the file extension, then the content type. */
+    public static TransactionFileFormat resolveFormat(String explicitFormat, String filename, String contentType) {
+        if (explicitFormat != null && !explicitFormat.isBlank()) {
+            return TransactionFileFormat.fromParameter(explicitFormat);
+        }
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv") || type.startsWith("text/csv")) {
+            return TransactionFileFormat.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || type.startsWith("application/x-ndjson")) {
+            return TransactionFileFormat.NDJSON;
+        }
+        throw new InvalidRequestException("Cannot determine import format; pass format=csv or format=ndjson");
+    }
+
+    /**
+     * Imports all rows of {@code input} for the user, reporting per-row errors and per-chunk progress to
+     * {@code listener}. Rows without a spaceId fall back to {@code defaultSpaceId}. Each chunk is its own DB
+     * transaction, so chunks committed before an abort stay committed.
+     */
+    public void importTransactions(UUID userId, InputStream input, TransactionFileFormat format, UUID defaultSpaceId,
+                                   Consumer<ImportEventDto> listener) {
+        int chunkSize = properties.getChunkSize();
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+        Counters counters = new Counters();
+        log.info("Starting {} import for user {}", format, userId);
+
+        try (MappingIterator<Map<String, Object>> rows = openRows(input, format)) {
+            while (rows.hasNextValue()) {
+                Map<String, Object> raw = rows.nextValue();
+                long rowNumber = ++counters.rowsRead;
+
+                Map<String, String> errors = new LinkedHashMap<>();
+                CreateTransactionRequest request = toRequest(raw, defaultSpaceId, errors);
+                if (request != null) {
+                    for (ConstraintViolation<CreateTransactionRequest> violation : validator.validate(request)) {
+                        errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+                    }
+                }
+                if (!errors.isEmpty()) {
+                    rejectRow(rowNumber, errors, counters, listener);
+                    if (counters.failed >= properties.getMaxErrors()) {
+                        abort("Too many invalid rows; rows before the last progress event were imported", counters, listener);
+                        return;
+                    }
+                    continue;
+                }
+
+                chunk.add(new PendingRow(rowNumber, TransactionMapper.toNewTransaction(request)));
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(userId, chunk, counters, listener);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(userId, chunk, counters, listener);
+            }
+        } catch (UncheckedIOException e) {
+            throw e; // The client went away while we were reporting; nothing left to tell it
+        } catch (IOException | RuntimeException e) {
+            log.warn("Import for user {} aborted after {} rows: {}", userId, counters.rowsRead, e.getMessage());
+            abort("Import aborted at row " + counters.rowsRead + ": " + firstLine(e.getMessage()), counters, listener);
+            return;
+        }
+
+        log.info("Import for user {} finished: {} rows read, {} created, {} failed",
+                userId, counters.rowsRead, counters.created, counters.failed);
+        listener.accept(new ImportEventDto(ImportEventDto.Type.COMPLETED, null, null,
+                counters.rowsRead, counters.created, counters.failed, null));
+    }
+
+    // --- Helper methods ---
+
+    private MappingIterator<Map<String, Object>> openRows(InputStream input, TransactionFileFormat format) throws IOException {
+        return switch (format) {
+            case CSV -> CSV_MAPPER.readerForMapOf(Object.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(input);
+            case NDJSON -> objectMapper.readerForMapOf(Object.class).readValues(input);
+        };
+    }
+
+    // Returns null (and fills errors) when a value cannot be converted, e.g. an unknown type or a malformed date
+    private CreateTransactionRequest toRequest(Map<String, Object> raw, UUID defaultSpaceId, Map<String, String> errors) {
+        raw.values().removeIf(value -> value instanceof String text && text.isBlank()); // CSV has no nulls
+        CreateTransactionRequest request;
+        try {
+            request = objectMapper.convertValue(raw, CreateTransactionRequest.class);
+        } catch (IllegalArgumentException e) {
+            if (e.getCause() instanceof InvalidFormatException invalid && !invalid.getPath().isEmpty()) {
+                errors.put(invalid.getPath().get(0).getFieldName(), "Invalid value '" + invalid.getValue() + "'");
+            } else {
+                errors.put("row", "Row could not be read: " + firstLine(e.getMessage()));
+            }
+            return null;
+        }
+        if (request.getSpaceId() == null) {
+            request.setSpaceId(defaultSpaceId);
+        }
+        return request;
+    }
+
+    private void writeChunk(UUID userId, List<PendingRow> chunk, Counters counters, Consumer<ImportEventDto> listener) {
+        TransactionBatchResult result = transactionService.createTransactions(userId,
+                chunk.stream().map(PendingRow::transaction).toList());
+        for (PendingRow row : chunk) {
+            UUID spaceId = row.transaction().spaceId();
+            if (result.inaccessibleSpaceIds().contains(spaceId)) {
+                rejectRow(row.rowNumber(), Map.of("spaceId", "Space not found: " + spaceId), counters, listener);
+            }
+        }
+        counters.created += result.created().size();
+        chunk.clear();
+        listener.accept(new ImportEventDto(ImportEventDto.Type.PROGRESS, null, null,
+                counters.rowsRead, counters.created, counters.failed, null));
+    }
+
+    private void rejectRow(long rowNumber, Map<String, String> errors, Counters counters, Consumer<ImportEventDto> listener) {
+        counters.failed++;
+        listener.accept(new ImportEventDto(ImportEventDto.Type.ROW_ERROR, rowNumber, errors, null, null, null, null));
+    }
+
+    private void abort(String message, Counters counters, Consumer<ImportEventDto> listener) {
+        listener.accept(new ImportEventDto(ImportEventDto.Type.ABORTED, null, null,
+                counters.rowsRead, counters.created, counters.failed, message));
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "unknown error";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+
+    private record PendingRow(long rowNumber, NewTransaction transaction) {
+    }
+
+    private static final class Counters {
+        private long rowsRead;
+        private long created;
+        private long failed;
+    }
+}
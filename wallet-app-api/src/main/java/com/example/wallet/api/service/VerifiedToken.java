@@ -0,0 +1,33 @@
+package com.example.wallet.api.service;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * Claims of a token whose signature and expiry have already been checked by {@link JwtService#verify(String)}.
+ * Reuse it instead of re-parsing the raw token.
+ */
+public record VerifiedToken(Claims claims) {
+
+    public String subject() {
+        return claims.getSubject();
+    }
+
+    public Date expiration() {
+        return claims.getExpiration();
+    }
+
+    public String tokenId() {
+        return claims.getId();
+    }
+
+    public boolean isRefreshToken() {
+        return JwtService.REFRESH_TOKEN_TYPE.equals(claims.get(JwtService.TOKEN_TYPE_CLAIM));
+    }
+
+    public boolean isExpired() {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.wallet.api.jdbc;
+
+import com.example.wallet.api.config.SqlAccountingProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statements per request on the hot read paths and the write routes, counted by {@link SqlStatementCounter}
+ * through the real filter chain against PostgreSQL. Counts are asserted exactly, so an N+1, a lost cache or an extra
+ * SELECT before a write fails the build instead of only logging a warning, and every route measured here must carry a
+ * dev-profile budget (application.yml) that the count fits with a cold principal cache.
+ * <p>
+ * Runs on an embedded PostgreSQL, or on {@code WALLET_TEST_JDBC_URL} (plus {@code WALLET_TEST_JDBC_USERNAME} /
+ * {@code WALLET_TEST_JDBC_PASSWORD}) when set; the tests only add rows for fresh users, but use a scratch database.
+ * Without either (as root) the tests fail; {@code -Dwallet.sql-budget.skip} skips them explicitly.
+ */
+@SpringBootTest(properties = {
+        "app.outbox.relay-enabled=false", // Background work; its statements are never counted anyway
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.springframework=WARN",
+        "logging.level.org.springframework.beans.factory=WARN", // DEBUG in application.yml
+        "logging.level.org.springframework.boot.autoconfigure=WARN",
+        "logging.level.org.springframework.orm.jpa=WARN",
+        "logging.level.org.springframework.data.jpa=WARN",
+        "logging.level.com.example.wallet=WARN"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("dev") // The budgets under test are the dev profile's
+@DisabledIfSystemProperty(named = "wallet.sql-budget.skip", matches = "true",
+        disabledReason = "Skipped on request (-Dwallet.sql-budget.skip)")
+class SqlStatementBudgetTest {
+
+    private static final String EXTERNAL_JDBC_URL = System.getenv("WALLET_TEST_JDBC_URL");
+    private static final int PRINCIPAL_CACHE_MISS = 1; // First request of a user (per instance, per TTL) loads it
+    private static final String PASSWORD = "password123";
+
+    private static EmbeddedPostgres embedded;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private SqlAccountingProperties sqlAccountingProperties;
+
+    private String accessToken;
+    private String spaceId;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        if (EXTERNAL_JDBC_URL == null && "root".equals(System.getProperty("user.name"))) {
+            // initdb/postgres refuse to run as root, which is what CI containers often are. Fail rather than skip, so
+            // a build without a database cannot pass without checking the budgets
+            throw new IllegalStateException("Embedded PostgreSQL cannot run as root: set WALLET_TEST_JDBC_URL to a "
+                    + "scratch database, or pass -Dwallet.sql-budget.skip to skip the SQL budget tests");
+        }
+        if (EXTERNAL_JDBC_URL != null) {
+            registry.add("spring.datasource.url", () -> EXTERNAL_JDBC_URL);
+            registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("WALLET_TEST_JDBC_USERNAME", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("WALLET_TEST_JDBC_PASSWORD", "postgres"));
+            return;
+        }
+        embedded = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url",
+                () -> "jdbc:postgresql://localhost:" + embedded.getPort() + "/postgres?reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        if (embedded != null) {
+            embedded.close();
+            embedded = null;
+        }
+    }
+
+    @BeforeEach
+    void signUpWithOneSpace() throws Exception {
+        String username = "budget" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        perform(post("/api/v1/auth/signup"), Map.of("username", username, "email", username + "@example.com",
+                "password", PASSWORD));
+        accessToken = json(perform(post("/api/v1/auth/signin"), Map.of("usernameOrEmail", username,
+                "password", PASSWORD))).get("accessToken").asText();
+        // Also loads the principal, so every measured request below starts with a warm principal cache
+        spaceId = json(perform(authorized(post("/api/v1/spaces")), Map.of("name", "Budget", "currency", "EUR")))
+                .get("id").asText();
+    }
+
+    @Test
+    void spaceListIsOneQueryThenServedFromCache() throws Exception {
+        assertStatements(perform(authorized(get("/api/v1/spaces"))), 1);
+        assertStatements(perform(authorized(get("/api/v1/spaces"))), 0);
+    }
+
+    @Test
+    void spaceSummaryIsOneQueryThenServedFromCache() throws Exception {
+        createTransactions(3);
+
+        assertStatements(perform(authorized(get("/api/v1/spaces/{spaceId}/summary", spaceId))), 1);
+        assertStatements(perform(authorized(get("/api/v1/spaces/{spaceId}/summary", spaceId))), 0);
+    }
+
+    @Test
+    void transactionPagesCostTheSameWhateverTheirPosition() throws Exception {
+        createTransactions(5);
+
+        // Change sequence (ETag and ownership) + one keyset page. The in-memory invalidation bus does not reach other
+        // instances, so the sequence is read from the database on every request rather than from the summary cache
+        MvcResult first = perform(authorized(get("/api/v1/transactions/space/{spaceId}", spaceId).param("limit", "2")));
+        assertStatements(first, 2);
+        String cursor = json(first).get("nextCursor").asText();
+        assertStatements(perform(authorized(get("/api/v1/transactions/space/{spaceId}", spaceId)
+                .param("limit", "2").param("cursor", cursor))), 2);
+
+        // Revalidation answers 304 from the change sequence alone
+        MvcResult notModified = mockMvc.perform(authorized(get("/api/v1/transactions/space/{spaceId}", spaceId)
+                        .param("limit", "2").header(HttpHeaders.IF_NONE_MATCH, first.getResponse().getHeader(HttpHeaders.ETAG))))
+                .andExpect(status().isNotModified()).andReturn();
+        assertStatements(notModified, 1);
+    }
+
+    @Test
+    void syncReadsUpsertsAndTombstonesInConstantStatements() throws Exception {
+        List<String> ids = createTransactions(20);
+        perform(authorized(delete("/api/v1/transactions/{transactionId}", ids.get(0))), null);
+
+        MvcResult sync = perform(authorized(get("/api/v1/transactions/sync")));
+        assertThat(json(sync).get("upserts")).hasSize(19);
+        assertThat(json(sync).get("deletions")).hasSize(1);
+        assertStatements(sync, 2);
+
+        // Nothing new: same statements, empty batch
+        assertStatements(perform(authorized(get("/api/v1/transactions/sync")
+                .param("cursor", json(sync).get("nextCursor").asText()))), 2);
+    }
+
+    @Test
+    void bulkCreateCostDoesNotGrowWithBatchSize() throws Exception {
+        // Change sequences, row inserts, summary delta, rollup deltas for every day at once, outbox event;
+        // the first write to a fresh space also looks up its owner once
+        assertStatements(perform(authorized(post("/api/v1/transactions/batch")), batch(1)), 6);
+        assertStatements(perform(authorized(post("/api/v1/transactions/batch")), batch(1)), 5);
+        assertStatements(perform(authorized(post("/api/v1/transactions/batch")), batch(30)), 5); // 30 distinct days
+        assertStatements(perform(authorized(post("/api/v1/transactions/batch")), batch(100)), 5);
+
+        // Past hibernate.jdbc.batch_size (100) the rows take one more round trip per 100, nothing else grows
+        assertThat(statements(perform(authorized(post("/api/v1/transactions/batch")), batch(250)))).isEqualTo(5 + 2);
+    }
+
+    @Test
+    void transactionWritesCostAFixedNumberOfStatements() throws Exception {
+        // Change sequence, summary delta, rollup delta, insert, outbox event;
+        // the first write to a fresh space also looks up its owner once
+        assertStatements(perform(authorized(post("/api/v1/transactions")), transaction("1.00")), 6);
+        MvcResult created = perform(authorized(post("/api/v1/transactions")), transaction("2.00"));
+        assertStatements(created, 5);
+        String transactionId = json(created).get("id").asText();
+
+        // Owner-scoped entity load, change sequence, summary delta, rollup delta, outbox event, update
+        assertStatements(perform(authorized(put("/api/v1/transactions/{transactionId}", transactionId)),
+                Map.of("amount", "3.00", "transactionDate", LocalDate.now().toString(), "description", "Updated")), 6);
+        // Moving it to another day changes two rollups: out of the old day, into the new one
+        assertStatements(perform(authorized(put("/api/v1/transactions/{transactionId}", transactionId)),
+                Map.of("amount", "3.00", "transactionDate", LocalDate.now().minusDays(1).toString(),
+                        "description", "Moved")), 7);
+        // Owner-scoped entity load, change sequence, summary delta, rollup delta, tombstone insert (no merge
+        // SELECT), outbox event, delete
+        assertStatements(perform(authorized(delete("/api/v1/transactions/{transactionId}", transactionId))), 7);
+    }
+
+    @Test
+    void spaceWritesCostAFixedNumberOfStatements() throws Exception {
+        // Insert, summary row, outbox event
+        MvcResult created = perform(authorized(post("/api/v1/spaces")), Map.of("name", "Second", "currency", "EUR"));
+        assertStatements(created, 3);
+        String secondSpaceId = json(created).get("id").asText();
+
+        // Owner-scoped load, outbox event, versioned update
+        assertStatements(perform(authorized(put("/api/v1/spaces/{spaceId}", secondSpaceId)),
+                Map.of("name", "Renamed", "description", "Updated")), 3);
+        // Owner-scoped load, summary and rollup cleanup, outbox event, versioned delete
+        assertStatements(perform(authorized(delete("/api/v1/spaces/{spaceId}", secondSpaceId))), 5);
+    }
+
+    // --- Helper methods ---
+
+    // Exact count, plus a budget for the route that still holds when the principal also has to be loaded
+    private void assertStatements(MvcResult result, int expected) {
+        String route = result.getRequest().getMethod() + " "
+                + result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        assertThat(statements(result)).as("SQL statements for %s", route).isEqualTo(expected);
+        assertThat(sqlAccountingProperties.getBudgets()).as("dev-profile budgets").containsKey(route);
+        assertThat(expected + PRINCIPAL_CACHE_MISS).as("budget headroom for %s", route)
+                .isLessThanOrEqualTo(sqlAccountingProperties.budgetFor(route));
+    }
+
+    private static int statements(MvcResult result) {
+        String header = result.getResponse().getHeader(SqlAccountingFilter.STATEMENTS_HEADER);
+        assertThat(header).as(SqlAccountingFilter.STATEMENTS_HEADER).isNotNull();
+        return Integer.parseInt(header);
+    }
+
+    private List<String> createTransactions(int count) throws Exception {
+        List<String> ids = new ArrayList<>(count);
+        for (JsonNode item : json(perform(authorized(post("/api/v1/transactions/batch")), batch(count))).get("results")) {
+            ids.add(item.get("transaction").get("id").asText());
+        }
+        return ids;
+    }
+
+    private Map<String, Object> transaction(String amount) {
+        return Map.of("spaceId", spaceId, "type", "EXPENSE", "amount", amount,
+                "transactionDate", LocalDate.now().toString());
+    }
+
+    private Map<String, Object> batch(int count) {
+        List<Map<String, Object>> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(Map.of("spaceId", spaceId, "type", i % 2 == 0 ? "EXPENSE" : "INCOME",
+                    "amount", "12.50", "transactionDate", LocalDate.now().minusDays(i % 30).toString()));
+        }
+        return Map.of("items", items);
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        return perform(request, null);
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        if (body != null) {
+            request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsBytes(body));
+        }
+        return mockMvc.perform(request).andExpect(status().is2xxSuccessful()).andReturn();
+    }
+
+    private JsonNode json(MvcResult result) throws IOException {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.wallet.api.security;
+
+import com.example.wallet.api.config.PasswordHashingProperties;
+import com.example.wallet.api.exception.GlobalExceptionHandler;
+import com.example.wallet.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Sign-in under hashing overload: an unknown user still costs DaoAuthenticationProvider a hash (timing-attack
+ * mitigation), and when that hash - or the user lookup itself - is shed the client must get 503 + Retry-After,
+ * never the 401 that would send it straight back with the same credentials.
+ */
+class BoundedPasswordEncoderTest {
+
+    private static final String HELD = "held:"; // Passwords with this prefix park their hash until released
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setTimeout(Duration.ofSeconds(30)); // Only the full queue may shed, never the timeout
+        properties.setRetryAfter(Duration.ofSeconds(3));
+        encoder = new BoundedPasswordEncoder(properties, meterRegistry, new HoldingEncoder(release));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        encoder.destroy();
+    }
+
+    @Test
+    void unknownUserSignInWhileSaturatedIsAnsweredWith503() throws Exception {
+        MockMvc mockMvc = signInEndpoint(provider(username -> {
+            throw new UsernameNotFoundException(username);
+        }));
+        // Like a running server, the provider has already built its dummy hash on an earlier sign-in,
+        // so under load only the timing-mitigation matches() is left to be shed
+        mockMvc.perform(signIn("ghost")).andExpect(status().isUnauthorized());
+        saturate();
+
+        mockMvc.perform(signIn("ghost"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shedUserLookupWrappedByTheProviderIsAnsweredWith503() throws Exception {
+        // The provider wraps anything the lookup throws (e.g. the connection admission guard shedding it)
+        // in InternalAuthenticationServiceException, an AuthenticationException the advice would map to 401
+        MockMvc mockMvc = signInEndpoint(provider(username -> {
+            throw new ServiceOverloadedException("Too many concurrent database requests", 2);
+        }));
+
+        mockMvc.perform(signIn("ghost"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+    }
+
+    @Test
+    void unknownUserSignInWithSpareCapacityIsStill401() throws Exception {
+        MockMvc mockMvc = signInEndpoint(provider(username -> {
+            throw new UsernameNotFoundException(username);
+        }));
+
+        mockMvc.perform(signIn("ghost"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().doesNotExist(HttpHeaders.RETRY_AFTER));
+    }
+
+    // --- Helper methods ---
+
+    // Parks one hash on the single worker and a second in the one-slot queue, so the next submit is rejected
+    private void saturate() throws InterruptedException {
+        callers.submit(() -> encoder.encode(HELD + "running"));
+        awaitGauge("executor.active", 1);
+        callers.submit(() -> encoder.encode(HELD + "queued"));
+        awaitGauge("executor.queued", 1);
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).tag("name", "password-hashing").gauge().value() < expected) {
+            assertThat(System.nanoTime()).as("waiting for %s=%s", name, expected).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private DaoAuthenticationProvider provider(UserDetailsService userDetailsService) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setPasswordEncoder(encoder);
+        provider.setUserDetailsService(userDetailsService);
+        return provider;
+    }
+
+    // Same exception path as AuthService.authenticateUser: provider failures escape the controller to the advice
+    private static MockMvc signInEndpoint(AuthenticationProvider provider) {
+        return MockMvcBuilders.standaloneSetup(new SignInController(provider))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    private static org.springframework.test.web.servlet.RequestBuilder signIn(String username) {
+        return post("/signin").param("username", username).param("password", "whatever");
+    }
+
+    @RestController
+    private record SignInController(AuthenticationProvider provider) {
+
+        @PostMapping("/signin")
+        public String signIn(@RequestParam String username, @RequestParam String password) {
+            return provider.authenticate(new UsernamePasswordAuthenticationToken(username, password)).getName();
+        }
+    }
+
+    // Instant "hashing", except held passwords wait for the test to release them, standing in for slow BCrypt work
+    private record HoldingEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (rawPassword.toString().startsWith(HELD)) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
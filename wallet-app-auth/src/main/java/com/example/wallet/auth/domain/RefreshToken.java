@@ -0,0 +1,53 @@
+package com.example.wallet.auth.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Server-side record of an issued refresh token; the id is the token's jti
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"), // Revoking a family on reuse
+    @Index(name = "idx_refresh_tokens_user_expires", columnList = "user_id, expires_at") // Purging a user's expired tokens
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    // All tokens rotated from the same sign-in share a family
+    @NotNull
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private OffsetDateTime expiresAt;
+
+    // Set once the token has been exchanged; presenting it again means it leaked
+    @Column(name = "used_at")
+    private OffsetDateTime usedAt;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean revoked = false;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+}
@@ -1,5 +1,6 @@
 package com.example.wallet.auth.domain;
 
+import com.example.wallet.auth.event.UserChangePublisher;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -17,6 +18,7 @@ import java.util.List; // Simple single role example
 import java.util.UUID;
 
 @Entity
+@EntityListeners(UserChangePublisher.class) // Lets cached principals be invalidated on user changes
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "username"),
         @UniqueConstraint(columnNames = "email")
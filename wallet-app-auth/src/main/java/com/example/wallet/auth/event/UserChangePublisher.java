@@ -0,0 +1,22 @@
+package com.example.wallet.auth.event;
+
+import com.example.wallet.auth.domain.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// JPA entity listener (Spring-managed via Hibernate's bean container) turning user writes into application events
+@Component
+@RequiredArgsConstructor
+public class UserChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getUsername()));
+    }
+}
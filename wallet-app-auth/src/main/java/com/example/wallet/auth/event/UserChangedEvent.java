@@ -0,0 +1,9 @@
+package com.example.wallet.auth.event;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a user row is updated or deleted, so holders of cached user state can drop it.
+ */
+public record UserChangedEvent(UUID userId, String username) {
+}
@@ -0,0 +1,8 @@
+package com.example.wallet.auth.exception;
+
+// Mapped to 401 by the API's exception handler
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
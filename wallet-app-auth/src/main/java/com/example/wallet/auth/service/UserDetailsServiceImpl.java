@@ -15,7 +15,9 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
 
     @Override
-    @Transactional(readOnly = true) // Good practice for read operations
+    // Deliberately not read-only: read-only work may go to a lagging replica, and credential checks (sign-in right after
+    // sign-up, the JWT filter's principal load) run anonymously, so no read-your-writes window keeps them on the primary
+    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // Try finding by username first, then email as fallback (common pattern)
         return userRepository.findByUsernameIgnoreCase(username)
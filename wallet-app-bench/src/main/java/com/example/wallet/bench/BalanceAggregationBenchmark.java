@@ -0,0 +1,79 @@
+package com.example.wallet.bench;
+
+import com.example.wallet.core.domain.Transaction;
+import com.example.wallet.core.domain.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Income/expense/balance totals over a space's transactions: the single-pass fold used for batch summary deltas,
+// a stream per total, and a sum of unscaled longs (exact while every amount has the column's scale of 4)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BalanceAggregationBenchmark {
+
+    private static final int SCALE = 4;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private List<Transaction> transactions;
+
+    public record Totals(BigDecimal income, BigDecimal expense, BigDecimal balance) {
+    }
+
+    @Setup
+    public void setUp() {
+        transactions = BenchmarkData.transactions(size);
+    }
+
+    @Benchmark
+    public Totals foldByType() {
+        BigDecimal income = BigDecimal.ZERO;
+        BigDecimal expense = BigDecimal.ZERO;
+        for (Transaction transaction : transactions) {
+            if (transaction.getType() == TransactionType.INCOME) {
+                income = income.add(transaction.getAmount());
+            } else if (transaction.getType() == TransactionType.EXPENSE) {
+                expense = expense.add(transaction.getAmount());
+            }
+        }
+        return new Totals(income, expense, income.subtract(expense));
+    }
+
+    @Benchmark
+    public Totals streamPerTotal() {
+        BigDecimal income = sumOf(TransactionType.INCOME);
+        BigDecimal expense = sumOf(TransactionType.EXPENSE);
+        return new Totals(income, expense, income.subtract(expense));
+    }
+
+    @Benchmark
+    public Totals unscaledLongSum() {
+        long income = 0;
+        long expense = 0;
+        for (Transaction transaction : transactions) {
+            long unscaled = transaction.getAmount().setScale(SCALE).unscaledValue().longValueExact();
+            if (transaction.getType() == TransactionType.INCOME) {
+                income = Math.addExact(income, unscaled);
+            } else if (transaction.getType() == TransactionType.EXPENSE) {
+                expense = Math.addExact(expense, unscaled);
+            }
+        }
+        return new Totals(BigDecimal.valueOf(income, SCALE), BigDecimal.valueOf(expense, SCALE),
+            BigDecimal.valueOf(Math.subtractExact(income, expense), SCALE));
+    }
+
+    private BigDecimal sumOf(TransactionType type) {
+        return transactions.stream()
+            .filter(transaction -> transaction.getType() == type)
+            .map(Transaction::getAmount)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
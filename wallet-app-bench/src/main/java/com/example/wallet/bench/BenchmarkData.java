@@ -0,0 +1,102 @@
+package com.example.wallet.bench;
+
+import com.example.wallet.api.service.JwtService;
+import com.example.wallet.auth.domain.Role;
+import com.example.wallet.auth.domain.User;
+import com.example.wallet.core.domain.Space;
+import com.example.wallet.core.domain.Transaction;
+import com.example.wallet.core.domain.TransactionType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic fixtures shaped like production data: a few spaces per user, amounts with the column's scale of 4,
+ * mostly expenses, dates spread over two years. Fixed seeds keep runs comparable across versions.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // Static methods only
+public final class BenchmarkData {
+
+    // Base64 of a 256-bit key, the same shape as app.jwt.secret
+    public static final String JWT_SECRET = "YmVuY2htYXJrLW9ubHktc2VjcmV0LW5vdC1mb3ItYW55LXJlYWwtZW52aXJvbm1lbnQ=";
+    private static final OffsetDateTime EPOCH = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final String[] DESCRIPTIONS = {
+        "Groceries", "Coffee", "Salary", "Rent", "Taxi to the airport", null, "Electricity bill", "Refund", "Gym", ""
+    };
+
+    public static List<Transaction> transactions(int count) {
+        Random random = new Random(42);
+        UUID userId = new UUID(0, 1);
+        List<UUID> spaceIds = List.of(new UUID(1, 1), new UUID(1, 2), new UUID(1, 3));
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int roll = random.nextInt(100);
+            TransactionType type = roll < 70 ? TransactionType.EXPENSE : roll < 95 ? TransactionType.INCOME : TransactionType.TRANSFER;
+            // Mostly small amounts, occasionally large (rent, salary)
+            long cents = roll % 10 == 0 ? 50_000 + random.nextInt(500_000) : 100 + random.nextInt(20_000);
+            OffsetDateTime createdAt = EPOCH.plusSeconds(random.nextInt(60 * 60 * 24 * 365));
+            transactions.add(Transaction.builder()
+                .id(new UUID(random.nextLong(), random.nextLong()))
+                .spaceId(spaceIds.get(random.nextInt(spaceIds.size())))
+                .userId(userId)
+                .type(type)
+                .amount(BigDecimal.valueOf(cents, 2).setScale(4)) // As loaded from NUMERIC(19,4)
+                .description(DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)])
+                .transactionDate(LocalDate.of(2025, 1, 1).plusDays(random.nextInt(730)))
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .changeSeq((long) i + 1)
+                .build());
+        }
+        return transactions;
+    }
+
+    public static List<Space> spaces(int count) {
+        Random random = new Random(7);
+        UUID userId = new UUID(0, 1);
+        List<Space> spaces = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OffsetDateTime createdAt = EPOCH.plusSeconds(random.nextInt(60 * 60 * 24 * 365));
+            Space space = Space.builder()
+                .id(new UUID(random.nextLong(), random.nextLong()))
+                .userId(userId)
+                .name("Space " + i)
+                .description(i % 3 == 0 ? null : "Shared household budget " + i)
+                .currency(i % 2 == 0 ? "USD" : "EUR")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+            spaces.add(space);
+        }
+        return spaces;
+    }
+
+    // Same setup Spring does: @Value fields, then the @PostConstruct key initialisation
+    public static JwtService jwtService() {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 604_800_000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "initSigningKey");
+        return jwtService;
+    }
+
+    public static User user() {
+        return User.builder()
+            .id(new UUID(0, 1))
+            .username("bench-user")
+            .email("bench-user@example.com")
+            .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3xGxBbM6jD6b4YQk1bYpQ8e") // Never checked here
+            .role(Role.USER)
+            .build();
+    }
+}
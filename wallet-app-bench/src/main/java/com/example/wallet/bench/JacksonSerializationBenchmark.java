@@ -0,0 +1,44 @@
+package com.example.wallet.bench;
+
+import com.example.wallet.api.dto.TransactionDto;
+import com.example.wallet.api.mapper.TransactionMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JSON encoding of TransactionDto with the ObjectMapper setup Spring Boot applies (java.time as ISO strings)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    @Param({"50", "10000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private TransactionDto transaction;
+    private List<TransactionDto> transactions;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        transactions = TransactionMapper.toDtoList(BenchmarkData.transactions(size));
+        transaction = transactions.get(0);
+    }
+
+    @Benchmark
+    public byte[] serializeTransaction() throws Exception {
+        return writer.writeValueAsBytes(transaction);
+    }
+
+    @Benchmark
+    public byte[] serializeTransactionList() throws Exception {
+        return writer.writeValueAsBytes(transactions);
+    }
+}
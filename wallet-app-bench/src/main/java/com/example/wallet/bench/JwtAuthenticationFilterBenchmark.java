@@ -0,0 +1,63 @@
+package com.example.wallet.bench;
+
+import com.example.wallet.api.config.PrincipalCacheProperties;
+import com.example.wallet.api.config.TokenCacheProperties;
+import com.example.wallet.api.security.JwtAuthenticationFilter;
+import com.example.wallet.api.security.PrincipalCache;
+import com.example.wallet.api.security.VerifiedTokenCache;
+import com.example.wallet.api.service.JwtService;
+import com.example.wallet.auth.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+// One authenticated request through the JWT filter, with and without the token and principal caches.
+// The user lookup is an in-memory stand-in, so the uncached numbers exclude the database round trip.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cachesEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = BenchmarkData.jwtService();
+        User user = BenchmarkData.user();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        TokenCacheProperties tokenCacheProperties = new TokenCacheProperties();
+        tokenCacheProperties.setEnabled(cachesEnabled);
+        PrincipalCacheProperties principalCacheProperties = new PrincipalCacheProperties();
+        principalCacheProperties.setEnabled(cachesEnabled);
+
+        filter = new JwtAuthenticationFilter(jwtService, username -> user,
+                new PrincipalCache(principalCacheProperties, meterRegistry),
+                new VerifiedTokenCache(jwtService, tokenCacheProperties, meterRegistry));
+        authorization = "Bearer " + jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/spaces");
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext(); // Each invocation is a fresh request
+        return authentication;
+    }
+}
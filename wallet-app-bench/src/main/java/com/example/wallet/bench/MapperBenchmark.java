@@ -0,0 +1,44 @@
+package com.example.wallet.bench;
+
+import com.example.wallet.api.dto.SpaceDto;
+import com.example.wallet.api.dto.TransactionDto;
+import com.example.wallet.api.mapper.SpaceMapper;
+import com.example.wallet.api.mapper.TransactionMapper;
+import com.example.wallet.core.domain.Space;
+import com.example.wallet.core.domain.Transaction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Entity -> DTO mapping of listing-sized (page) and export-sized lists
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"50", "10000"})
+    public int size;
+
+    private List<Transaction> transactions;
+    private List<Space> spaces;
+
+    @Setup
+    public void setUp() {
+        transactions = BenchmarkData.transactions(size);
+        spaces = BenchmarkData.spaces(size);
+    }
+
+    @Benchmark
+    public List<TransactionDto> transactionsToDtoList() {
+        return TransactionMapper.toDtoList(transactions);
+    }
+
+    @Benchmark
+    public List<SpaceDto> spacesToDtoList() {
+        return SpaceMapper.toDtoList(spaces);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.wallet.bench;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line (e.g. {@code JwtService -p cachesEnabled=true})
+ * but defaults to JSON results in {@code jmh-result-<version>.json}, so runs of different releases can be diffed
+ * or fed to a JMH result visualiser. Pass {@code -rf}/{@code -rff} to override.
+ */
+public final class WalletBenchmarks {
+
+    private WalletBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            Main.main(args); // Informational modes, nothing to record
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result("jmh-result-" + version() + ".json");
+        }
+        new Runner(options.build()).run();
+    }
+
+    private static String version() {
+        String version = WalletBenchmarks.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev"; // Not running from benchmarks.jar (e.g. from the IDE)
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.wallet.bench.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms (successful requests, microseconds) and error counts per operation for one measured run.
+ * Writes {@code <label>-<operation>.hgrm} percentile distributions (in milliseconds, the format HdrHistogram's
+ * plotter reads) and a {@code <label>-summary.json} for tracking runs over time.
+ */
+final class LoadReport {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final String label;
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<String, LongAdder>> errors = new EnumMap<>(Operation.class);
+    private volatile Duration measured = Duration.ZERO;
+
+    LoadReport(String label) {
+        this.label = label;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(1, MAX_LATENCY_MICROS, 3));
+            errors.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    void recordSuccess(Operation operation, long latencyNanos) {
+        long micros = Math.max(1, Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        latencies.get(operation).recordValue(micros);
+    }
+
+    void recordError(Operation operation, String kind) {
+        errors.get(operation).computeIfAbsent(kind, k -> new LongAdder()).increment();
+    }
+
+    void setMeasured(Duration measured) {
+        this.measured = measured;
+    }
+
+    void print(PrintStream out) {
+        double seconds = measured.toMillis() / 1000.0;
+        out.printf("%n== %s: %.0f s measured ==%n", label, seconds);
+        out.printf("%-13s %9s %7s %9s %8s %8s %8s %8s %8s%n", "operation", "ok", "errors", "ops/s",
+            "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long totalOk = 0;
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            long failed = errorCount(operation);
+            if (histogram.getTotalCount() == 0 && failed == 0) {
+                continue; // Not part of the mix
+            }
+            totalOk += histogram.getTotalCount();
+            totalErrors += failed;
+            out.printf("%-13s %9d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n", operation.key(), histogram.getTotalCount(),
+                failed, histogram.getTotalCount() / seconds, millis(histogram, 50), millis(histogram, 90),
+                millis(histogram, 99), millis(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+        }
+        out.printf("%-13s %9d %7d %9.1f%n", "total", totalOk, totalErrors, totalOk / seconds);
+        errors.forEach((operation, kinds) -> kinds.forEach((kind, count) ->
+            out.printf("  error %-13s %-28s %d%n", operation.key(), kind, count.sum())));
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("label", label);
+        summary.put("measuredSeconds", measured.toMillis() / 1000.0);
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            if (histogram.getTotalCount() == 0 && errorCount(operation) == 0) {
+                continue;
+            }
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(directory.resolve(label + "-" + operation.key() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(hgrm, 1000.0); // Microseconds recorded, milliseconds reported
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("ok", histogram.getTotalCount());
+            stats.put("opsPerSecond", histogram.getTotalCount() / (measured.toMillis() / 1000.0));
+            stats.put("p50Ms", millis(histogram, 50));
+            stats.put("p90Ms", millis(histogram, 90));
+            stats.put("p99Ms", millis(histogram, 99));
+            stats.put("p999Ms", millis(histogram, 99.9));
+            stats.put("maxMs", histogram.getMaxValue() / 1000.0);
+            Map<String, Long> errorKinds = new TreeMap<>();
+            errors.get(operation).forEach((kind, count) -> errorKinds.put(kind, count.sum()));
+            stats.put("errors", errorKinds);
+            operations.put(operation.key(), stats);
+        }
+        summary.put("operations", operations);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(directory.resolve(label + "-summary.json").toFile(), summary);
+    }
+
+    private long errorCount(Operation operation) {
+        return errors.get(operation).values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.wallet.bench.load;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line of {@link WalletLoadTest}, as {@code --name=value} pairs; everything has a default.
+ *
+ * @param concurrency   closed-loop clients, each bound to one seeded user
+ * @param mix           relative weight of each operation in the workload
+ * @param threadModes   server request-thread modes to run one after the other against the same data
+ * @param jdbcUrl       existing database to use instead of the embedded one (it is seeded, so use a scratch one)
+ */
+public record LoadTestOptions(int users, int spacesPerUser, int transactionsPerSpace, int concurrency,
+                              Duration warmup, Duration duration, Map<Operation, Integer> mix,
+                              List<ThreadMode> threadModes, Path outputDir,
+                              String jdbcUrl, String jdbcUsername, String jdbcPassword) {
+
+    private static final String DEFAULT_MIX = "signin:1,spaces:25,transactions:35,create:15,sync:24";
+
+    public enum ThreadMode { PLATFORM, VIRTUAL }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+            Integer.parseInt(values.getOrDefault("users", "50")),
+            Integer.parseInt(values.getOrDefault("spaces-per-user", "3")),
+            Integer.parseInt(values.getOrDefault("transactions-per-space", "1000")),
+            Integer.parseInt(values.getOrDefault("concurrency", "32")),
+            DurationStyle.detectAndParse(values.getOrDefault("warmup", "15s")),
+            DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+            parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+            parseThreadModes(values.getOrDefault("thread-modes", "platform")),
+            Path.of(values.getOrDefault("out", "load-results")),
+            values.get("jdbc-url"),
+            values.getOrDefault("jdbc-username", "postgres"),
+            values.getOrDefault("jdbc-password", "postgres"));
+        values.keySet().removeAll(List.of("users", "spaces-per-user", "transactions-per-space", "concurrency", "warmup",
+            "duration", "mix", "thread-modes", "out", "jdbc-url", "jdbc-username", "jdbc-password"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return options;
+    }
+
+    // e.g. "spaces:25,create:15"; operations left out are not run
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(Operation.fromKey(parts[0]), Integer.parseInt(parts[1]));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The workload mix needs at least one positive weight");
+        }
+        return weights;
+    }
+
+    private static List<ThreadMode> parseThreadModes(String modes) {
+        List<ThreadMode> threadModes = new ArrayList<>();
+        for (String mode : modes.split(",")) {
+            threadModes.add(ThreadMode.valueOf(mode.trim().toUpperCase()));
+        }
+        return threadModes;
+    }
+}
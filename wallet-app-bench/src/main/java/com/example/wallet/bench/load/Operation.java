@@ -0,0 +1,29 @@
+package com.example.wallet.bench.load;
+
+// Workload operations; the key is how they are named in --mix and in the report
+public enum Operation {
+    SIGN_IN("signin"),              // POST /auth/signin (BCrypt-bound)
+    LIST_SPACES("spaces"),          // GET /spaces
+    LIST_TRANSACTIONS("transactions"), // GET /transactions/space/{id}, first page
+    CREATE_TRANSACTION("create"),   // POST /transactions
+    SYNC("sync");                   // GET /transactions/sync from the client's last cursor
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "'");
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.wallet.bench.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+// Minimal JSON-over-HTTP client for the API under test; non-2xx answers surface as HttpStatusException
+final class WalletHttpClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final URI baseUri;
+    private final ObjectMapper json = new ObjectMapper();
+
+    WalletHttpClient(int port) {
+        this.http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1) // What the servlet container speaks; skips the h2c upgrade dance
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        this.baseUri = URI.create("http://localhost:" + port + "/api/v1/");
+    }
+
+    static final class HttpStatusException extends IOException {
+
+        private final int status;
+
+        HttpStatusException(int status, String path) {
+            super("HTTP " + status + " from " + path);
+            this.status = status;
+        }
+
+        int status() {
+            return status;
+        }
+    }
+
+    void signUp(String username, String password) throws IOException, InterruptedException {
+        send("POST", "auth/signup", null, Map.of("username", username, "email", username + "@load.test", "password", password));
+    }
+
+    String signIn(String username, String password) throws IOException, InterruptedException {
+        return send("POST", "auth/signin", null, Map.of("usernameOrEmail", username, "password", password))
+            .get("accessToken").asText();
+    }
+
+    String createSpace(String token, String name) throws IOException, InterruptedException {
+        return send("POST", "spaces", token, Map.of("name", name, "currency", "USD")).get("id").asText();
+    }
+
+    void createTransactions(String token, List<Map<String, Object>> items) throws IOException, InterruptedException {
+        send("POST", "transactions/batch", token, Map.of("items", items));
+    }
+
+    JsonNode createTransaction(String token, Map<String, Object> transaction) throws IOException, InterruptedException {
+        return send("POST", "transactions", token, transaction);
+    }
+
+    JsonNode listSpaces(String token) throws IOException, InterruptedException {
+        return send("GET", "spaces", token, null);
+    }
+
+    JsonNode listTransactions(String token, String spaceId) throws IOException, InterruptedException {
+        return send("GET", "transactions/space/" + spaceId + "?limit=50", token, null);
+    }
+
+    // Returns the cursor to resume from
+    String sync(String token, String cursor) throws IOException, InterruptedException {
+        String path = "transactions/sync?limit=500" + (cursor != null ? "&cursor=" + cursor : "");
+        return send("GET", path, token, null).get("nextCursor").asText();
+    }
+
+    private JsonNode send(String method, String path, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new HttpStatusException(response.statusCode(), path);
+        }
+        return response.body().length == 0 ? json.nullNode() : json.readTree(response.body());
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.wallet.bench.load;
+
+import com.example.wallet.api.WalletApplication;
+import com.example.wallet.bench.load.LoadTestOptions.ThreadMode;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * End-to-end load test: boots the real application against an embedded PostgreSQL (or {@code --jdbc-url}), seeds it
+ * through the public API and drives a weighted mix of sign-in, listing, create and sync calls from closed-loop
+ * clients. Each {@code --thread-modes} entry restarts the application on the same data, so platform and virtual
+ * request threads can be compared run for run.
+ * <p>
+ * Closed-loop clients slow down with the server, so the latencies understate queueing under overload (coordinated
+ * omission); compare runs at the same concurrency and watch the error breakdown for shed requests.
+ */
+public final class WalletLoadTest {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final int SEED_BATCH_SIZE = 5_000; // Below app.transactions.batch.max-items
+
+    private WalletLoadTest() {
+    }
+
+    // A seeded user as one client sees it; shared by workers when --concurrency exceeds --users
+    private record ClientSession(String username, AtomicReference<String> token, List<String> spaceIds,
+                                 AtomicReference<String> syncCursor) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        EmbeddedPostgres embedded = null;
+        String jdbcUrl = options.jdbcUrl();
+        if (jdbcUrl == null) {
+            System.out.println("Starting embedded PostgreSQL...");
+            embedded = EmbeddedPostgres.builder().start();
+            jdbcUrl = "jdbc:postgresql://localhost:" + embedded.getPort() + "/postgres?reWriteBatchedInserts=true";
+        }
+        try {
+            List<ClientSession> sessions = null;
+            for (ThreadMode mode : options.threadModes()) {
+                if (mode == ThreadMode.VIRTUAL && Runtime.version().feature() < 21) {
+                    System.out.println("Skipping virtual thread run: needs Java 21+, running on " + Runtime.version());
+                    continue;
+                }
+                try (ConfigurableApplicationContext app = startApplication(options, jdbcUrl, mode)) {
+                    int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+                    WalletHttpClient client = new WalletHttpClient(port);
+                    if (sessions == null) {
+                        sessions = seed(client, options); // Once; later modes reuse the data (and the still-valid tokens)
+                    }
+                    LoadReport report = run(client, sessions, options, mode.name().toLowerCase());
+                    report.print(System.out);
+                    report.write(options.outputDir());
+                }
+            }
+            System.out.println("\nResults written to " + options.outputDir().toAbsolutePath());
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    // --- Helper methods ---
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options, String jdbcUrl, ThreadMode mode) {
+        System.out.printf("Starting application (%s request threads)...%n", mode.name().toLowerCase());
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.profiles.active=" + (mode == ThreadMode.VIRTUAL ? "dev,virtual-threads" : "dev"),
+            "--spring.datasource.url=" + jdbcUrl,
+            "--spring.datasource.username=" + options.jdbcUsername(),
+            "--spring.datasource.password=" + options.jdbcPassword(),
+            "--server.port=0",
+            "--spring.jpa.show-sql=false",
+            "--app.sql-accounting.enabled=false", // Dev-profile diagnostics; keep the JDBC proxy out of the measurement
+            "--spring.main.banner-mode=off"));
+        // The yml turns on DEBUG for several loggers; the load test wants the console for its report
+        for (String logger : List.of("root", "org.springframework.beans.factory", "org.springframework.boot.autoconfigure",
+                "org.springframework.orm.jpa", "org.springframework.data.jpa", "com.example.wallet", "org.hibernate")) {
+            args.add("--logging.level." + logger + "=WARN");
+        }
+        return new SpringApplicationBuilder(WalletApplication.class).run(args.toArray(String[]::new));
+    }
+
+    // Users in parallel: sign up, sign in, create spaces, then fill each space through the batch endpoint
+    private static List<ClientSession> seed(WalletHttpClient client, LoadTestOptions options) throws Exception {
+        System.out.printf("Seeding %d users x %d spaces x %d transactions...%n",
+            options.users(), options.spacesPerUser(), options.transactionsPerSpace());
+        long started = System.nanoTime();
+        String runId = Long.toString(System.currentTimeMillis(), 36); // Unique usernames when reusing --jdbc-url
+        ExecutorService seeders = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ClientSession>> futures = new ArrayList<>();
+            for (int i = 0; i < options.users(); i++) {
+                String username = "load" + runId + "u" + i;
+                long seed = i;
+                futures.add(seeders.submit(() -> seedUser(client, options, username, new Random(seed))));
+            }
+            List<ClientSession> sessions = new ArrayList<>();
+            for (Future<ClientSession> future : futures) {
+                sessions.add(future.get());
+            }
+            System.out.printf("Seeded in %.1f s%n", (System.nanoTime() - started) / 1e9);
+            return sessions;
+        } finally {
+            seeders.shutdownNow();
+        }
+    }
+
+    private static ClientSession seedUser(WalletHttpClient client, LoadTestOptions options, String username, Random random)
+            throws IOException, InterruptedException {
+        client.signUp(username, PASSWORD);
+        String token = client.signIn(username, PASSWORD);
+        List<String> spaceIds = new ArrayList<>();
+        for (int s = 0; s < options.spacesPerUser(); s++) {
+            String spaceId = client.createSpace(token, "Space " + s);
+            spaceIds.add(spaceId);
+            List<Map<String, Object>> items = new ArrayList<>();
+            for (int t = 0; t < options.transactionsPerSpace(); t++) {
+                items.add(randomTransaction(spaceId, random));
+                if (items.size() == SEED_BATCH_SIZE) {
+                    client.createTransactions(token, items);
+                    items = new ArrayList<>();
+                }
+            }
+            if (!items.isEmpty()) {
+                client.createTransactions(token, items);
+            }
+        }
+        return new ClientSession(username, new AtomicReference<>(token), List.copyOf(spaceIds), new AtomicReference<>());
+    }
+
+    private static LoadReport run(WalletHttpClient client, List<ClientSession> sessions, LoadTestOptions options,
+                                  String label) throws InterruptedException {
+        System.out.printf("Running %s: %d clients, %s warmup, %s measured...%n",
+            label, options.concurrency(), options.warmup(), options.duration());
+        LoadReport report = new LoadReport(label);
+        Operation[] schedule = weightedSchedule(options.mix());
+        long measureFrom = System.nanoTime() + options.warmup().toNanos();
+        long stopAt = measureFrom + options.duration().toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(options.concurrency());
+        for (int i = 0; i < options.concurrency(); i++) {
+            ClientSession session = sessions.get(i % sessions.size());
+            Random random = new Random(i);
+            clients.execute(() -> {
+                long now;
+                while ((now = System.nanoTime()) < stopAt) {
+                    Operation operation = schedule[random.nextInt(schedule.length)];
+                    String error = null;
+                    try {
+                        execute(client, session, operation, random);
+                    } catch (WalletHttpClient.HttpStatusException e) {
+                        error = "HTTP " + e.status();
+                    } catch (IOException | RuntimeException e) {
+                        error = e.getClass().getSimpleName();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long latency = System.nanoTime() - now;
+                    if (now < measureFrom) {
+                        continue; // Warmup: JIT, connection pools and caches settle
+                    }
+                    if (error == null) {
+                        report.recordSuccess(operation, latency);
+                    } else {
+                        report.recordError(operation, error);
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        long budgetMs = options.warmup().plus(options.duration()).plusMinutes(1).toMillis(); // In-flight requests time out after 30 s
+        if (!clients.awaitTermination(budgetMs, TimeUnit.MILLISECONDS)) {
+            clients.shutdownNow();
+        }
+        report.setMeasured(options.duration());
+        return report;
+    }
+
+    private static void execute(WalletHttpClient client, ClientSession session, Operation operation, Random random)
+            throws IOException, InterruptedException {
+        String token = session.token().get();
+        String spaceId = session.spaceIds().get(random.nextInt(session.spaceIds().size()));
+        switch (operation) {
+            case SIGN_IN -> session.token().set(client.signIn(session.username(), PASSWORD));
+            case LIST_SPACES -> client.listSpaces(token);
+            case LIST_TRANSACTIONS -> client.listTransactions(token, spaceId);
+            case CREATE_TRANSACTION -> client.createTransaction(token, randomTransaction(spaceId, random));
+            case SYNC -> session.syncCursor().set(client.sync(token, session.syncCursor().get()));
+        }
+    }
+
+    // One slot per unit of weight, so picking a uniform slot follows the mix
+    private static Operation[] weightedSchedule(Map<Operation, Integer> mix) {
+        List<Operation> slots = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        return slots.toArray(Operation[]::new);
+    }
+
+    private static Map<String, Object> randomTransaction(String spaceId, Random random) {
+        boolean income = random.nextInt(5) == 0;
+        BigDecimal amount = BigDecimal.valueOf(100 + random.nextInt(income ? 500_000 : 20_000), 2);
+        return Map.of(
+            "spaceId", spaceId,
+            "type", income ? "INCOME" : "EXPENSE",
+            "amount", amount,
+            "transactionDate", LocalDate.now().minusDays(random.nextInt(730)).toString(),
+            "description", "load " + random.nextInt(1_000));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.wallet.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Thrown when a bounded resource is saturated and the request is shed instead of queued
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds; // Sent back as the Retry-After header
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
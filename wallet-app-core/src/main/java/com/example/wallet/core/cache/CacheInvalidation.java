@@ -0,0 +1,9 @@
+package com.example.wallet.core.cache;
+
+import java.util.UUID;
+
+/**
+ * Cross-instance message telling every other node to drop {@code key} from its local copy of {@code cacheName}.
+ */
+public record CacheInvalidation(String cacheName, UUID key, String originNodeId) {
+}
@@ -0,0 +1,21 @@
+package com.example.wallet.core.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Fan-out channel for cache invalidations between API instances (e.g. Redis pub/sub or a message topic).
+ * Delivery is best effort; the local TTLs bound staleness when a message is lost.
+ */
+public interface CacheInvalidationBus {
+
+    /** Sends the invalidation to every subscribed instance, including the sender. */
+    void publish(CacheInvalidation invalidation);
+
+    /** Registers a listener for invalidations published by any instance. */
+    void subscribe(Consumer<CacheInvalidation> listener);
+
+    /** False for process-local buses: entries cached by other instances then only go away with their TTL. */
+    default boolean reachesOtherInstances() {
+        return true;
+    }
+}
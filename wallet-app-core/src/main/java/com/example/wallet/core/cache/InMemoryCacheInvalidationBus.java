@@ -0,0 +1,39 @@
+package com.example.wallet.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Process-local stand-in for the invalidation bus: delivers synchronously to listeners in the same JVM.
+ * Enough for tests that run several cache "nodes" side by side; a real deployment plugs in a networked bus.
+ */
+@Slf4j
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            try {
+                listener.accept(invalidation);
+            } catch (RuntimeException e) {
+                // One failing listener must not keep the others (or the publishing write) from completing
+                log.warn("Cache invalidation listener failed for {}", invalidation, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public boolean reachesOtherInstances() {
+        return false; // Only this JVM hears it
+    }
+}
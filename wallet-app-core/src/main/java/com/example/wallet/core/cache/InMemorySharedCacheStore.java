@@ -0,0 +1,78 @@
+package com.example.wallet.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Process-local stand-in for the shared tier, for tests and single-instance deployments.
+ * Only instances in the same JVM share it.
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private static final long MAX_ENTRIES = 100_000;
+
+    private final Cache<EntryKey, StoredValue> entries = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfter(new PerEntryTtl())
+            .build();
+
+    @Override
+    public Object get(String cacheName, UUID key) {
+        StoredValue stored = entries.getIfPresent(new EntryKey(cacheName, key));
+        return stored == null ? null : stored.value();
+    }
+
+    @Override
+    public Map<UUID, Object> getAll(String cacheName, Collection<UUID> keys) {
+        Map<UUID, Object> found = new LinkedHashMap<>();
+        for (UUID key : keys) {
+            Object value = get(cacheName, key);
+            if (value != null) {
+                found.put(key, value);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void put(String cacheName, UUID key, Object value, Duration ttl) {
+        entries.put(new EntryKey(cacheName, key), new StoredValue(value, ttl));
+    }
+
+    @Override
+    public void evict(String cacheName, UUID key) {
+        entries.invalidate(new EntryKey(cacheName, key));
+    }
+
+    private record EntryKey(String cacheName, UUID key) {
+    }
+
+    private record StoredValue(Object value, Duration ttl) {
+    }
+
+    // Each entry lives for the TTL it was put with; reads do not extend it
+    private static final class PerEntryTtl implements Expiry<EntryKey, StoredValue> {
+
+        @Override
+        public long expireAfterCreate(EntryKey key, StoredValue value, long currentTime) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(EntryKey key, StoredValue value, long currentTime, long currentDuration) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(EntryKey key, StoredValue value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.wallet.core.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Second cache tier shared by all API instances (e.g. Redis). Values are the same detached objects the
+ * local tier holds; networked implementations are responsible for serializing them.
+ */
+public interface SharedCacheStore {
+
+    /** Returns the value stored under the key, or null if absent or expired. */
+    Object get(String cacheName, UUID key);
+
+    /** Returns the stored values for those keys that are present; absent keys are left out. */
+    Map<UUID, Object> getAll(String cacheName, Collection<UUID> keys);
+
+    /** Stores the value for at most {@code ttl}. */
+    void put(String cacheName, UUID key, Object value, Duration ttl);
+
+    /** Removes the key; a no-op if it is absent. */
+    void evict(String cacheName, UUID key);
+}
@@ -0,0 +1,50 @@
+package com.example.wallet.core.cache;
+
+import com.example.wallet.core.config.SpaceListCacheProperties;
+import com.example.wallet.core.domain.Space;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of each user's space list. Entries are detached copies, never the entities of a
+ * persistence context, and must be treated as read-only. Every space write of the user invalidates the entry
+ * on all instances.
+ */
+@Component
+@Slf4j
+public class SpaceListCache {
+
+    private final TwoLevelCache<List<Space>> spacesByUser;
+
+    public SpaceListCache(SpaceListCacheProperties properties, TwoLevelCacheFactory cacheFactory) {
+        this.spacesByUser = cacheFactory.create("space-lists", properties.isEnabled(), properties.getMaxSize(), properties.getTtl());
+    }
+
+    /** Returns the user's cached space list, loading (and caching a copy of) it on a miss. */
+    public List<Space> get(UUID userId, Function<UUID, List<Space>> loader) {
+        return spacesByUser.get(userId, id -> loader.apply(id).stream().map(SpaceListCache::copyOf).toList());
+    }
+
+    /** Drops the user's list on this and every other instance. */
+    public void evict(UUID userId) {
+        spacesByUser.evict(userId);
+        log.debug("Evicted cached space list of user {}", userId);
+    }
+
+    private static Space copyOf(Space space) {
+        return Space.builder()
+                .id(space.getId())
+                .userId(space.getUserId())
+                .name(space.getName())
+                .description(space.getDescription())
+                .currency(space.getCurrency())
+                .createdAt(space.getCreatedAt())
+                .updatedAt(space.getUpdatedAt())
+                .version(space.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.wallet.core.cache;
+
+import com.example.wallet.core.config.SpaceOwnershipCacheProperties;
+import com.example.wallet.core.domain.SpaceOwner;
+import com.example.wallet.core.repository.SpaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Index of space id to owner id, so ownership checks on the transaction write path are answered from memory
+ * (or the shared cache tier). A space's owner never changes; entries only go away when the space is deleted.
+ * Misses fall back to the database; unknown spaces are not cached.
+ */
+@Component
+@Slf4j
+public class SpaceOwnershipCache {
+
+    private final SpaceRepository spaceRepository;
+    private final boolean enabled;
+    private final TwoLevelCache<UUID> owners; // spaceId -> userId
+
+    public SpaceOwnershipCache(SpaceRepository spaceRepository, SpaceOwnershipCacheProperties properties,
+                               TwoLevelCacheFactory cacheFactory) {
+        this.spaceRepository = spaceRepository;
+        this.enabled = properties.isEnabled();
+        this.owners = cacheFactory.create("space-ownership", properties.isEnabled(), properties.getMaxSize(), properties.getTtl());
+    }
+
+    /** True if the space exists and belongs to the user. */
+    public boolean isOwnedBy(UUID spaceId, UUID userId) {
+        if (!enabled) {
+            return spaceRepository.existsByIdAndUserId(spaceId, userId);
+        }
+        UUID ownerId = owners.get(spaceId, id -> spaceRepository.findOwnerIdById(id).orElse(null));
+        return userId.equals(ownerId);
+    }
+
+    /** Subset of {@code spaceIds} that exist and belong to the user; all misses are loaded with one query. */
+    public Set<UUID> filterOwnedBy(UUID userId, Collection<UUID> spaceIds) {
+        if (!enabled) {
+            return spaceIds.stream()
+                    .filter(spaceId -> spaceRepository.existsByIdAndUserId(spaceId, userId))
+                    .collect(Collectors.toSet());
+        }
+        Map<UUID, UUID> found = owners.getAll(spaceIds, missing -> spaceRepository.findOwnersByIds(missing).stream()
+                .collect(Collectors.toMap(SpaceOwner::spaceId, SpaceOwner::userId)));
+        return found.entrySet().stream()
+                .filter(entry -> Objects.equals(entry.getValue(), userId))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    /** Drops a deleted space on this and every other instance. */
+    public void evict(UUID spaceId) {
+        owners.evict(spaceId);
+        log.debug("Evicted ownership of space {}", spaceId);
+    }
+}
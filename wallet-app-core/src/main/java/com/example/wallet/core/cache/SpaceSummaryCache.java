@@ -0,0 +1,56 @@
+package com.example.wallet.core.cache;
+
+import com.example.wallet.core.config.SpaceSummaryCacheProperties;
+import com.example.wallet.core.domain.SpaceSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of space summaries (balance, totals, last change sequence), which back the summary
+ * endpoint and the ETags of transaction pages. Entries are detached read-only copies; every transaction write
+ * to the space invalidates its entry on all instances.
+ */
+@Component
+@Slf4j
+public class SpaceSummaryCache {
+
+    private final TwoLevelCache<SpaceSummary> summaries; // spaceId -> summary
+
+    public SpaceSummaryCache(SpaceSummaryCacheProperties properties, TwoLevelCacheFactory cacheFactory) {
+        this.summaries = cacheFactory.create("space-summaries", properties.isEnabled(), properties.getMaxSize(), properties.getTtl());
+    }
+
+    /** Returns the space's cached summary, loading (and caching a copy of) it on a miss; null if the loader finds none. */
+    public SpaceSummary get(UUID spaceId, Function<UUID, SpaceSummary> loader) {
+        return summaries.get(spaceId, id -> {
+            SpaceSummary summary = loader.apply(id);
+            return summary == null ? null : copyOf(summary);
+        });
+    }
+
+    /** Drops the space's summary on this and every other instance. */
+    public void evict(UUID spaceId) {
+        summaries.evict(spaceId);
+        log.debug("Evicted cached summary of space {}", spaceId);
+    }
+
+    /** Whether a write on another instance evicts this instance's entries (see {@link TwoLevelCache#isCoherentAcrossInstances()}). */
+    public boolean isCoherentAcrossInstances() {
+        return summaries.isCoherentAcrossInstances();
+    }
+
+    private static SpaceSummary copyOf(SpaceSummary summary) {
+        return SpaceSummary.builder()
+                .spaceId(summary.getSpaceId())
+                .userId(summary.getUserId())
+                .totalIncome(summary.getTotalIncome())
+                .totalExpense(summary.getTotalExpense())
+                .transactionCount(summary.getTransactionCount())
+                .lastActivityAt(summary.getLastActivityAt())
+                .lastChangeSeq(summary.getLastChangeSeq())
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.wallet.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache keyed by entity id with a bounded local near-cache in front of an optional shared tier.
+ * Reads try local, then shared, then the loader; null results are never cached. {@link #evict} drops the key
+ * from both tiers and tells the other instances to drop their local copy. Created by {@link TwoLevelCacheFactory}.
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    private final String name;
+    private final boolean enabled;
+    private final Cache<UUID, V> local;
+    private final SharedCacheStore shared; // null when the shared tier is disabled
+    private final Duration sharedTtl;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId;
+
+    TwoLevelCache(String name, boolean enabled, Cache<UUID, V> local, SharedCacheStore shared, Duration sharedTtl,
+                  CacheInvalidationBus invalidationBus, String nodeId) {
+        this.name = name;
+        this.enabled = enabled;
+        this.local = local;
+        this.shared = shared;
+        this.sharedTtl = sharedTtl;
+        this.invalidationBus = invalidationBus;
+        this.nodeId = nodeId;
+    }
+
+    /** Returns the cached value, loading and caching it on a miss in both tiers; null if the loader finds nothing. */
+    public V get(UUID key, Function<UUID, V> loader) {
+        if (!enabled) {
+            return loader.apply(key);
+        }
+        return local.get(key, id -> {
+            V value = readShared(id);
+            if (value == null) {
+                value = loader.apply(id);
+                writeShared(id, value);
+            }
+            return value;
+        });
+    }
+
+    /** Returns the values for all keys found; keys missing in both tiers are loaded with one bulk call. */
+    public Map<UUID, V> getAll(Collection<UUID> keys, Function<Set<UUID>, Map<UUID, V>> bulkLoader) {
+        if (!enabled) {
+            return bulkLoader.apply(new HashSet<>(keys));
+        }
+        return local.getAll(keys, missing -> {
+            Map<UUID, V> found = readShared(missing);
+            Set<UUID> remaining = new HashSet<>(missing);
+            remaining.removeAll(found.keySet());
+            if (!remaining.isEmpty()) {
+                Map<UUID, V> loaded = bulkLoader.apply(remaining);
+                loaded.forEach(this::writeShared);
+                found.putAll(loaded);
+            }
+            return found;
+        });
+    }
+
+    /** Drops the key from both tiers now, and again plus on every other instance once the writing transaction completes. */
+    public void evict(UUID key) {
+        if (!enabled) {
+            return;
+        }
+        evictHere(key);
+        // A concurrent read may reload the pre-write value before the write commits; evicting after completion closes
+        // that gap, and other instances are only told once the new value is visible to them
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictHere(key);
+                    publish(key);
+                }
+            });
+        } else {
+            publish(key);
+        }
+        log.debug("Evicted {} from cache {}", key, name);
+    }
+
+    /** True when a write on any instance evicts this cache everywhere; otherwise other instances may serve values up to the TTL old. */
+    public boolean isCoherentAcrossInstances() {
+        return !enabled || invalidationBus.reachesOtherInstances();
+    }
+
+    // Invalidation received from another instance: its write already cleared the shared tier
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (!nodeId.equals(invalidation.originNodeId())) {
+            local.invalidate(invalidation.key());
+        }
+    }
+
+    private void evictHere(UUID key) {
+        local.invalidate(key);
+        if (shared != null) {
+            shared.evict(name, key);
+        }
+    }
+
+    private void publish(UUID key) {
+        try {
+            invalidationBus.publish(new CacheInvalidation(name, key, nodeId));
+        } catch (RuntimeException e) {
+            // The write has already completed; other instances fall back to their TTL
+            log.warn("Could not publish invalidation of {} in cache {}", key, name, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked") // The shared tier only ever holds values this cache put there
+    private V readShared(UUID key) {
+        return shared == null ? null : (V) shared.get(name, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, V> readShared(Set<? extends UUID> keys) {
+        Map<UUID, V> found = new HashMap<>();
+        if (shared != null) {
+            shared.getAll(name, Set.copyOf(keys)).forEach((key, value) -> found.put(key, (V) value));
+        }
+        return found;
+    }
+
+    private void writeShared(UUID key, V value) {
+        if (shared != null && value != null) {
+            shared.put(name, key, value, sharedTtl);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.wallet.core.cache;
+
+import com.example.wallet.core.config.SharedCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the {@link TwoLevelCache}s of the core read paths and routes invalidations from other
+ * instances to them. One subscription to the bus serves every cache.
+ */
+@Component
+@Slf4j
+public class TwoLevelCacheFactory {
+
+    private final SharedCacheStore sharedStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final SharedCacheProperties sharedProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoLevelCache<?>> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheFactory(SharedCacheStore sharedStore, CacheInvalidationBus invalidationBus,
+                                SharedCacheProperties sharedProperties, MeterRegistry meterRegistry) {
+        this.sharedStore = sharedStore;
+        this.invalidationBus = invalidationBus;
+        this.sharedProperties = sharedProperties;
+        this.meterRegistry = meterRegistry;
+        invalidationBus.subscribe(this::dispatch);
+        log.info("Cache node {} started (shared tier {})", sharedProperties.getNodeId(),
+                sharedProperties.isEnabled() ? "enabled" : "disabled");
+    }
+
+    /** Creates a cache whose local tier holds up to {@code maxSize} entries for {@code ttl}; names must be unique. */
+    public <V> TwoLevelCache<V> create(String name, boolean enabled, long maxSize, Duration ttl) {
+        Cache<UUID, V> local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name); // Local tier only: cache.gets{cache=name,result=hit|miss}, ...
+        TwoLevelCache<V> cache = new TwoLevelCache<>(name, enabled, local,
+                sharedProperties.isEnabled() ? sharedStore : null, sharedProperties.getTtl(),
+                invalidationBus, sharedProperties.getNodeId());
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("Duplicate cache name: " + name);
+        }
+        return cache;
+    }
+
+    private void dispatch(CacheInvalidation invalidation) {
+        TwoLevelCache<?> cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.onInvalidation(invalidation);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.wallet.core.config;
+
+import com.example.wallet.core.cache.CacheInvalidationBus;
+import com.example.wallet.core.cache.InMemoryCacheInvalidationBus;
+import com.example.wallet.core.cache.InMemorySharedCacheStore;
+import com.example.wallet.core.cache.SharedCacheStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// In-memory defaults for the shared cache tier and invalidation bus; define a bean of either type
+// (e.g. Redis-backed) to replace them
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SharedCacheStore sharedCacheStore() {
+        return new InMemorySharedCacheStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+}
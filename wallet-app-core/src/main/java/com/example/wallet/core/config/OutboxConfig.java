@@ -0,0 +1,18 @@
+package com.example.wallet.core.config;
+
+import com.example.wallet.core.event.ChangeEventSink;
+import com.example.wallet.core.event.InProcessChangeEventSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// In-process default for the outbox relay's destination; define a ChangeEventSink bean (e.g. Kafka-backed) to replace it
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ChangeEventSink changeEventSink() {
+        return new InProcessChangeEventSink();
+    }
+}
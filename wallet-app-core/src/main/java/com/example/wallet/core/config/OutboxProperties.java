@@ -0,0 +1,25 @@
+package com.example.wallet.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.outbox")
+@Getter
+@Setter
+public class OutboxProperties {
+
+    private boolean enabled = true; // Write outbox rows with every space/transaction change
+
+    private boolean relayEnabled = true; // Run the relay on this instance (only one instance relays at a time anyway)
+
+    private Duration pollInterval = Duration.ofSeconds(1); // Safety net; local commits wake the relay immediately
+
+    private int batchSize = 500; // Events per sink call (and per relay DB transaction)
+
+    private Duration retention = Duration.ofDays(7); // Relayed rows are kept this long for inspection and replay
+
+    private Duration purgeInterval = Duration.ofHours(1);
+}
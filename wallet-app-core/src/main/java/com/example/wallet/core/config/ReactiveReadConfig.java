@@ -0,0 +1,67 @@
+package com.example.wallet.core.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+// R2DBC pool for the streaming read path only. Writes and everything transactional stay on JPA/Hikari, which is why
+// Boot's R2DBC auto-configuration (and its competing transaction manager) is excluded in WalletApplication.
+// The pool is deliberately not a bean: any ConnectionFactory bean makes Boot back off from creating the JDBC DataSource.
+@Configuration
+@Slf4j
+public class ReactiveReadConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ReactiveReadProperties properties, DataSourceProperties dataSourceProperties) {
+        connectionPool = createPool(properties, dataSourceProperties);
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+
+    private static ConnectionPool createPool(ReactiveReadProperties properties, DataSourceProperties dataSourceProperties) {
+        String url = StringUtils.hasText(properties.getUrl()) ? properties.getUrl() : toR2dbcUrl(dataSourceProperties.determineUrl());
+        String username = StringUtils.hasText(properties.getUsername()) ? properties.getUsername() : dataSourceProperties.determineUsername();
+        String password = StringUtils.hasText(properties.getPassword()) ? properties.getPassword() : dataSourceProperties.determinePassword();
+
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (StringUtils.hasText(password)) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        log.info("Reactive read pool on {} (max {} connections)", url, properties.getMaxPoolSize());
+        // Connections are opened on first use, so a node that never serves a stream holds none
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-read")
+                .initialSize(0)
+                .maxSize(properties.getMaxPoolSize())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .build());
+    }
+
+    // jdbc:postgresql://host:5432/db?jdbcOnlyOption=... -> r2dbc:postgresql://host:5432/db (JDBC driver options do not apply)
+    private static String toR2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:")) {
+            throw new IllegalStateException("Set app.reactive.url; cannot derive an R2DBC URL from " + jdbcUrl);
+        }
+        int query = jdbcUrl.indexOf('?');
+        return "r2dbc:" + jdbcUrl.substring("jdbc:".length(), query < 0 ? jdbcUrl.length() : query);
+    }
+}
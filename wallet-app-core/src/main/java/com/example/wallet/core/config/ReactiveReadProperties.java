@@ -0,0 +1,25 @@
+package com.example.wallet.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.reactive")
+@Getter
+@Setter
+public class ReactiveReadProperties {
+
+    private String url; // r2dbc:postgresql://host:port/db; blank = derived from spring.datasource.url
+
+    private String username; // Blank = spring.datasource.username
+
+    private String password; // Blank = spring.datasource.password
+
+    private int maxPoolSize = 20; // Non-blocking connections; each serves one streaming read at a time
+
+    private Duration maxIdleTime = Duration.ofMinutes(10);
+
+    private int fetchSize = 500; // Rows pulled per round trip, so a long stream is read with backpressure
+}
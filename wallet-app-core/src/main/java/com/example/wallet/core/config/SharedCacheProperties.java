@@ -0,0 +1,20 @@
+package com.example.wallet.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@ConfigurationProperties(prefix = "app.cache.shared")
+@Getter
+@Setter
+public class SharedCacheProperties {
+
+    private boolean enabled = false; // Second tier shared by all instances; off means local near-caches only
+
+    private Duration ttl = Duration.ofMinutes(30); // Lifetime of entries in the shared tier
+
+    private String nodeId = UUID.randomUUID().toString(); // Tags invalidation messages so an instance skips its own
+}
@@ -0,0 +1,19 @@
+package com.example.wallet.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.cache.space-lists")
+@Getter
+@Setter
+public class SpaceListCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maxSize = 10_000; // Users whose space list is kept in memory
+
+    private Duration ttl = Duration.ofMinutes(10); // Safety bound for changes made through other instances
+}
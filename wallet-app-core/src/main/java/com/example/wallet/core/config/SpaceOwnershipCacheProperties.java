@@ -0,0 +1,19 @@
+package com.example.wallet.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.cache.space-ownership")
+@Getter
+@Setter
+public class SpaceOwnershipCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maxSize = 100_000; // Space -> owner entries kept in memory
+
+    private Duration ttl = Duration.ofMinutes(10); // Bounds staleness when a space is deleted through another instance
+}
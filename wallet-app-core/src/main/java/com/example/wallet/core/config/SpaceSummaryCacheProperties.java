@@ -0,0 +1,19 @@
+package com.example.wallet.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.cache.space-summaries")
+@Getter
+@Setter
+public class SpaceSummaryCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maxSize = 100_000; // Space summaries kept in memory
+
+    private Duration ttl = Duration.ofMinutes(1); // Short: without a networked invalidation bus, other instances' writes show up only after this
+}
@@ -0,0 +1,20 @@
+package com.example.wallet.core.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum AnalyticsBucket {
+    DAY,
+    WEEK,  // ISO weeks, starting on Monday
+    MONTH;
+
+    /** First day of the bucket containing the given date. */
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.wallet.core.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Input for one transaction of a bulk create; the owning user is supplied separately.
+ */
+public record NewTransaction(UUID spaceId, TransactionType type, BigDecimal amount, LocalDate transactionDate, String description) {
+}
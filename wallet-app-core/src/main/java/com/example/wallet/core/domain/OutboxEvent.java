@@ -0,0 +1,74 @@
+package com.example.wallet.core.domain;
+
+import com.example.wallet.core.event.ChangeEvent;
+import com.example.wallet.core.event.OutboxMessage;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// A ChangeEvent waiting in (or already relayed from) the outbox; table and indexes come from V4__Change_Event_Outbox.sql
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // Insert order, not commit order; see relayPosition
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 32)
+    private ChangeEvent.Type eventType;
+
+    @NotNull
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @NotNull
+    @Column(name = "space_id", nullable = false)
+    private UUID spaceId;
+
+    @Column(name = "transaction_id")
+    private UUID transactionId; // Null for space and bulk events
+
+    @Column(name = "change_seq")
+    private Long changeSeq; // Null for space events
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "published_at")
+    private OffsetDateTime publishedAt; // Null until the relay hands the event to the sink
+
+    @Column(name = "relay_position")
+    private Long relayPosition; // Stamped by the relay from outbox_relay_position_seq; follows the order events became visible
+
+    public static OutboxEvent from(ChangeEvent event) {
+        return OutboxEvent.builder()
+            .eventType(event.type())
+            .userId(event.userId())
+            .spaceId(event.spaceId())
+            .transactionId(event.transactionId())
+            .changeSeq(event.changeSeq())
+            .itemCount(event.count())
+            .build();
+    }
+
+    public OutboxMessage toMessage() {
+        return new OutboxMessage(relayPosition, createdAt,
+            new ChangeEvent(userId, eventType, spaceId, transactionId, changeSeq, itemCount));
+    }
+}
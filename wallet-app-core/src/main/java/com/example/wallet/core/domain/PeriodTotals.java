@@ -0,0 +1,10 @@
+package com.example.wallet.core.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Sum and count of one transaction type within a period starting at {@code periodStart}.
+ */
+public record PeriodTotals(LocalDate periodStart, TransactionType type, BigDecimal total, long count) {
+}
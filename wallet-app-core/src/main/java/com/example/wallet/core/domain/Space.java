@@ -10,6 +10,7 @@ import lombok.Setter;
 import lombok.Builder; // Optional: if you want builder pattern
 import lombok.AllArgsConstructor; // Optional: if you want all args constructor
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -56,6 +57,12 @@ public class Space {
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
+    // Incremented on every update (optimistic locking); with the id it is the space's ETag
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     // Consider adding relationship to Transactions if needed (e.g., @OneToMany)
     // @OneToMany(mappedBy = "space", cascade = CascadeType.ALL, orphanRemoval = true)
     // private List<Transaction> transactions = new ArrayList<>();
@@ -0,0 +1,26 @@
+package com.example.wallet.core.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+// Per-day, per-type totals of a space; the primary key (space_id, rollup_date, type) doubles as the range-read index
+@Entity
+@Table(name = "space_daily_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpaceDailyRollup {
+
+    @EmbeddedId
+    private SpaceDailyRollupId id;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+}
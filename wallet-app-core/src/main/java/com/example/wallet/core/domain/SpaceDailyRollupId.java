@@ -0,0 +1,30 @@
+package com.example.wallet.core.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SpaceDailyRollupId implements Serializable {
+
+    @Column(name = "space_id", nullable = false)
+    private UUID spaceId;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate; // transaction_date of the aggregated rows
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+}
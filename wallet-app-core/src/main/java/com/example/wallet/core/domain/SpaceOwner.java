@@ -0,0 +1,9 @@
+package com.example.wallet.core.domain;
+
+import java.util.UUID;
+
+/**
+ * Owner of a space, as loaded for ownership checks.
+ */
+public record SpaceOwner(UUID spaceId, UUID userId) {
+}
@@ -0,0 +1,49 @@
+package com.example.wallet.core.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Running totals per space, maintained by the transaction write paths so reads never scan transactions
+@Entity
+@Table(name = "space_summaries")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpaceSummary {
+
+    @Id
+    @Column(name = "space_id")
+    private UUID spaceId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "total_income", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalIncome;
+
+    @Column(name = "total_expense", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalExpense;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount; // Includes TRANSFER rows, which do not move the balance
+
+    @Column(name = "last_activity_at")
+    private OffsetDateTime lastActivityAt;
+
+    // Highest change sequence written to the space, including deletions; changes whenever its transaction list does
+    @ColumnDefault("0")
+    @Column(name = "last_change_seq", nullable = false)
+    private long lastChangeSeq;
+
+    // Balance is income minus expense; TRANSFER is excluded until transfers link both sides
+    public BigDecimal getBalance() {
+        return totalIncome.subtract(totalExpense);
+    }
+}
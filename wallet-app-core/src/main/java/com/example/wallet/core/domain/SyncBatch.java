@@ -0,0 +1,10 @@
+package com.example.wallet.core.domain;
+
+import java.util.List;
+
+/**
+ * One bounded slice of a user's change feed, ordered by change sequence.
+ * {@code nextChangeSeq} is the position to resume from; it equals the requested position when nothing changed.
+ */
+public record SyncBatch(List<Transaction> upserts, List<TransactionTombstone> deletions, long nextChangeSeq, boolean hasMore) {
+}
@@ -0,0 +1,11 @@
+package com.example.wallet.core.domain;
+
+/**
+ * One entry of a user's change feed: exactly one of {@code upsert} and {@code deletion} is set.
+ */
+public record SyncChange(long changeSeq, Transaction upsert, TransactionTombstone deletion) {
+
+    public boolean isDeletion() {
+        return deletion != null;
+    }
+}
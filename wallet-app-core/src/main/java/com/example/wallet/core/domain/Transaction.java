@@ -15,8 +15,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "transactions", indexes = {
-    @Index(name = "idx_transactions_space_id", columnList = "space_id"),
-    @Index(name = "idx_transactions_user_id", columnList = "user_id"), // Index user_id
+    @Index(name = "idx_transactions_space_keyset", columnList = "space_id, transaction_date, created_at, id"), // Keyset listing (also covers space_id lookups)
+    @Index(name = "idx_transactions_user_change_seq", columnList = "user_id, change_seq"), // Sync range scan (also covers user_id lookups)
     @Index(name = "idx_transactions_updated_at", columnList = "updated_at") // Index for sync
 })
 @Getter
@@ -67,4 +67,8 @@ public class Transaction {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
+
+    // Drawn from transaction_change_seq on every insert/update; drives the incremental sync feed
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
 }
\ No newline at end of file
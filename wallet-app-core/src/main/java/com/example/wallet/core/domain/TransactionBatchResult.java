@@ -0,0 +1,12 @@
+package com.example.wallet.core.domain;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk create. {@code created} holds the stored transactions in input order, skipping items whose
+ * space is in {@code inaccessibleSpaceIds} (missing or owned by someone else).
+ */
+public record TransactionBatchResult(List<Transaction> created, Set<UUID> inaccessibleSpaceIds) {
+}
@@ -0,0 +1,16 @@
+package com.example.wallet.core.domain;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset position inside a space's transaction listing.
+ * Mirrors the listing sort order: transaction_date DESC, created_at DESC, id DESC.
+ */
+public record TransactionCursor(LocalDate transactionDate, OffsetDateTime createdAt, UUID id) {
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getTransactionDate(), transaction.getCreatedAt(), transaction.getId());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.wallet.core.domain;
+
+import java.util.List;
+
+/**
+ * One keyset page of transactions. {@code nextCursor} is null when there are no further rows.
+ */
+public record TransactionPage(List<Transaction> items, TransactionCursor nextCursor) {
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.wallet.core.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Records a hard-deleted transaction so syncing clients can drop their local copy
+@Entity
+@Table(name = "transaction_tombstones", indexes = {
+    @Index(name = "idx_transaction_tombstones_user_change_seq", columnList = "user_id, change_seq") // Sync range scan
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionTombstone implements Persistable<UUID> {
+
+    @Id
+    private UUID id; // Same id as the deleted transaction
+
+    @NotNull
+    @Column(name = "space_id", nullable = false)
+    private UUID spaceId;
+
+    @NotNull
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @NotNull
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @CreationTimestamp
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private OffsetDateTime deletedAt;
+
+    // The id is assigned (the deleted transaction's), so without this save() would merge and SELECT first
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newTombstone = true;
+
+    @Override
+    public boolean isNew() {
+        return newTombstone;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newTombstone = false;
+    }
+}
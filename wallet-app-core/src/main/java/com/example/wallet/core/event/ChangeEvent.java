@@ -0,0 +1,50 @@
+package com.example.wallet.core.event;
+
+import com.example.wallet.core.domain.Space;
+import com.example.wallet.core.domain.Transaction;
+
+import java.util.UUID;
+
+/**
+ * A committed-or-about-to-commit write of a user's data, published as a Spring application event by the space and
+ * transaction write paths from inside the writing DB transaction. Anything acting on it outside the database must
+ * listen with {@code @TransactionalEventListener(phase = AFTER_COMMIT)} so rolled-back writes are never announced.
+ * {@code changeSeq} is the sync position after the change (transaction events only); {@code count} is the number
+ * of transactions a bulk event stands for.
+ */
+public record ChangeEvent(UUID userId, Type type, UUID spaceId, UUID transactionId, Long changeSeq, int count) {
+
+    public enum Type {
+        TRANSACTION_CREATED,
+        TRANSACTIONS_CREATED, // Bulk create/import, one event per space
+        TRANSACTION_UPDATED,
+        TRANSACTION_DELETED,
+        SPACE_CREATED,
+        SPACE_UPDATED,
+        SPACE_DELETED
+    }
+
+    public static ChangeEvent transactionCreated(Transaction transaction) {
+        return forTransaction(Type.TRANSACTION_CREATED, transaction, transaction.getChangeSeq());
+    }
+
+    public static ChangeEvent transactionsCreated(UUID userId, UUID spaceId, long lastChangeSeq, int count) {
+        return new ChangeEvent(userId, Type.TRANSACTIONS_CREATED, spaceId, null, lastChangeSeq, count);
+    }
+
+    public static ChangeEvent transactionUpdated(Transaction transaction) {
+        return forTransaction(Type.TRANSACTION_UPDATED, transaction, transaction.getChangeSeq());
+    }
+
+    public static ChangeEvent transactionDeleted(Transaction transaction, long changeSeq) {
+        return forTransaction(Type.TRANSACTION_DELETED, transaction, changeSeq);
+    }
+
+    public static ChangeEvent forSpace(Type type, Space space) {
+        return new ChangeEvent(space.getUserId(), type, space.getId(), null, null, 0);
+    }
+
+    private static ChangeEvent forTransaction(Type type, Transaction transaction, Long changeSeq) {
+        return new ChangeEvent(transaction.getUserId(), type, transaction.getSpaceId(), transaction.getId(), changeSeq, 1);
+    }
+}
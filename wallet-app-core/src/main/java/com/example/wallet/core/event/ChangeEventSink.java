@@ -0,0 +1,13 @@
+package com.example.wallet.core.event;
+
+import java.util.List;
+
+/**
+ * Destination of the outbox relay (e.g. a Kafka topic or a message queue).
+ * Delivery is at-least-once: if {@link #publish} throws, the whole batch stays pending and is offered again.
+ */
+public interface ChangeEventSink {
+
+    /** Delivers a batch of changes, ordered by position; returns only once the batch is durably accepted. */
+    void publish(List<OutboxMessage> messages);
+}
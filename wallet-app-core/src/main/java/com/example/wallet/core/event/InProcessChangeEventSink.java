@@ -0,0 +1,26 @@
+package com.example.wallet.core.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Process-local sink: hands each relayed batch synchronously to subscribers in the same JVM.
+ * The default when no other sink is configured, and what tests subscribe to; a subscriber that throws fails
+ * the batch, which is then redelivered to every subscriber.
+ */
+public class InProcessChangeEventSink implements ChangeEventSink {
+
+    private final List<Consumer<List<OutboxMessage>>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (Consumer<List<OutboxMessage>> subscriber : subscribers) {
+            subscriber.accept(messages);
+        }
+    }
+
+    public void subscribe(Consumer<List<OutboxMessage>> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.wallet.core.event;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A relayed change as handed to a {@link ChangeEventSink}. {@code position} is stamped by the relay when it hands the
+ * event over, so it increases in the order events were committed and became visible, never going back below what was
+ * already relayed. Consumers can keep it as a high-water mark and deduplicate on it, since delivery is at-least-once.
+ * It may skip values when a relay batch is rolled back and retried.
+ */
+public record OutboxMessage(long position, OffsetDateTime occurredAt, ChangeEvent event) {
+}
@@ -0,0 +1,149 @@
+package com.example.wallet.core.event;
+
+import com.example.wallet.core.config.OutboxProperties;
+import com.example.wallet.core.domain.OutboxEvent;
+import com.example.wallet.core.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves outbox rows to the {@link ChangeEventSink} in batches, oldest first. Each batch is read, stamped with relay
+ * positions, published and marked relayed in one DB transaction under a cluster-wide advisory lock, so a single
+ * instance relays at a time and a sink failure leaves the batch pending for the next attempt (at-least-once).
+ * Positions come from a sequence drawn only here, so an event whose transaction committed late still lands after
+ * everything relayed before it.
+ * Commits on this instance wake the relay right away; the poll interval only bounds latency for the rest.
+ */
+@Component
+@Slf4j
+public class OutboxRelay implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "outbox.relay";
+    private static final int LOCK_NAMESPACE = 0x6f757462; // "outb"
+    private static final int RELAY_LOCK_KEY = 1;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ChangeEventSink sink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(); // Coalesces wake-ups from bursts of commits
+    private final Counter published;
+    private final Counter failures;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, ChangeEventSink sink, OutboxProperties properties,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.published = Counter.builder(METRIC_PREFIX + ".published")
+                .description("Outbox events handed to the change event sink").register(meterRegistry);
+        this.failures = Counter.builder(METRIC_PREFIX + ".failures")
+                .description("Relay batches that failed and were left pending").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled() || !properties.isRelayEnabled()) {
+            log.info("Outbox relay disabled on this instance");
+            return;
+        }
+        long pollMs = properties.getPollInterval().toMillis();
+        long purgeMs = properties.getPurgeInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::relayPending, pollMs, pollMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeRelayed, purgeMs, purgeMs, TimeUnit.MILLISECONDS);
+        log.info("Outbox relay started: batches of {}, polling every {} ms", properties.getBatchSize(), pollMs);
+    }
+
+    // A local write committed: relay now rather than at the next poll
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommittedChange(ChangeEvent event) {
+        if (properties.isEnabled() && properties.isRelayEnabled() && wakeUpPending.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::relayPending);
+            } catch (RejectedExecutionException e) {
+                wakeUpPending.set(false); // Shutting down
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    // --- Helper methods ---
+
+    // Runs on the single relay thread only, so batches are never published concurrently from this instance
+    private void relayPending() {
+        wakeUpPending.set(false); // Commits from here on need another pass
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed == properties.getBatchSize()); // Full batch: there may be more
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox relay batch failed; it stays pending and is retried", e); // Never let the scheduled task die
+        }
+    }
+
+    private int relayBatch() {
+        if (!outboxEventRepository.tryRelayLock(LOCK_NAMESPACE, RELAY_LOCK_KEY)) {
+            return 0; // Another instance is relaying
+        }
+        List<OutboxEvent> batch = outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(
+                PageRequest.of(0, properties.getBatchSize()));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        // Ids only order the batch itself; the position is what orders the stream across batches
+        List<Long> positions = outboxEventRepository.nextRelayPositions(batch.size()).stream().sorted().toList();
+        OffsetDateTime now = OffsetDateTime.now();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            event.setRelayPosition(positions.get(i));
+            event.setPublishedAt(now); // Managed entities: flushed as batched UPDATEs at commit
+        }
+        sink.publish(batch.stream().map(OutboxEvent::toMessage).toList());
+        published.increment(batch.size());
+        log.debug("Relayed {} outbox events up to position {}", batch.size(), positions.get(positions.size() - 1));
+        return batch.size();
+    }
+
+    private void purgeRelayed() {
+        try {
+            OffsetDateTime cutoff = OffsetDateTime.now().minus(properties.getRetention());
+            Integer purged = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(cutoff));
+            if (purged != null && purged > 0) {
+                log.info("Purged {} relayed outbox events older than {}", purged, cutoff);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox purge failed", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.wallet.core.event;
+
+import com.example.wallet.core.config.OutboxProperties;
+import com.example.wallet.core.domain.OutboxEvent;
+import com.example.wallet.core.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// Appends every ChangeEvent to the outbox as it is published, i.e. inside the writing transaction:
+// the outbox row commits or rolls back together with the change it describes
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties properties;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY) // A change published outside a transaction is a bug
+    public void onChange(ChangeEvent event) {
+        if (properties.isEnabled()) {
+            outboxEventRepository.save(OutboxEvent.from(event));
+        }
+    }
+}
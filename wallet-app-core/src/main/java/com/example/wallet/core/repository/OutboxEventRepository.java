@@ -0,0 +1,31 @@
+package com.example.wallet.core.repository;
+
+import com.example.wallet.core.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Two-int advisory lock, a key space separate from the bigint per-user change locks; released at commit.
+    // Only the instance holding it relays, which keeps one ordered stream without row locks.
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:namespace, :key)", nativeQuery = true)
+    boolean tryRelayLock(int namespace, int key);
+
+    // Oldest unrelayed events (partial index idx_outbox_events_pending); Pageable only carries the row limit
+    List<OutboxEvent> findByPublishedAtIsNullOrderByIdAsc(Pageable limit);
+
+    // 'count' relay positions in one round trip; only the lock holder draws from the sequence
+    @Query(value = "SELECT nextval('outbox_relay_position_seq') FROM generate_series(1, :count)", nativeQuery = true)
+    List<Long> nextRelayPositions(int count);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(OffsetDateTime cutoff);
+}
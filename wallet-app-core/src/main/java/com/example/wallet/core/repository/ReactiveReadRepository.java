@@ -0,0 +1,106 @@
+package com.example.wallet.core.repository;
+
+import com.example.wallet.core.config.ReactiveReadProperties;
+import com.example.wallet.core.domain.Space;
+import com.example.wallet.core.domain.SyncChange;
+import com.example.wallet.core.domain.Transaction;
+import com.example.wallet.core.domain.TransactionTombstone;
+import com.example.wallet.core.domain.TransactionType;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking reads over R2DBC for the streaming endpoints. Rows are mapped to plain (never managed) domain
+ * objects and emitted as they arrive; nothing here touches JPA.
+ */
+@Repository
+public class ReactiveReadRepository {
+
+    // Upserts and deletion tombstones of one user merged in change order, read in one statement (one snapshot)
+    private static final String CHANGES_SQL =
+            "SELECT c.* FROM (" +
+            " SELECT t.change_seq, t.id, t.space_id, t.type, t.amount, t.description, t.transaction_date," +
+            "        t.created_at, t.updated_at, NULL::timestamptz AS deleted_at" +
+            " FROM transactions t WHERE t.user_id = :userId AND t.change_seq > :afterChangeSeq" +
+            " UNION ALL" +
+            " SELECT d.change_seq, d.id, d.space_id, NULL, NULL, NULL, NULL, NULL, NULL, d.deleted_at" +
+            " FROM transaction_tombstones d WHERE d.user_id = :userId AND d.change_seq > :afterChangeSeq" +
+            ") c ORDER BY c.change_seq LIMIT :limit";
+
+    private static final String SPACES_SQL =
+            "SELECT s.id, s.user_id, s.name, s.description, s.currency, s.created_at, s.updated_at, s.version " +
+            "FROM spaces s WHERE s.user_id = :userId ORDER BY s.created_at";
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ReactiveReadRepository(@Qualifier("reactiveDatabaseClient") DatabaseClient databaseClient,
+                                  ReactiveReadProperties properties) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = properties.getFetchSize();
+    }
+
+    /** Streams up to {@code limit} changes of the user after the given change sequence, oldest first. */
+    public Flux<SyncChange> streamChanges(UUID userId, long afterChangeSeq, int limit) {
+        return databaseClient.sql(CHANGES_SQL)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .bind("userId", userId)
+                .bind("afterChangeSeq", afterChangeSeq)
+                .bind("limit", limit)
+                .map((row, metadata) -> toSyncChange(row, userId))
+                .all();
+    }
+
+    /** Streams the user's spaces in creation order. */
+    public Flux<Space> streamSpaces(UUID userId) {
+        return databaseClient.sql(SPACES_SQL)
+                .bind("userId", userId)
+                .map((row, metadata) -> Space.builder()
+                        .id(row.get("id", UUID.class))
+                        .userId(row.get("user_id", UUID.class))
+                        .name(row.get("name", String.class))
+                        .description(row.get("description", String.class))
+                        .currency(row.get("currency", String.class))
+                        .createdAt(row.get("created_at", OffsetDateTime.class))
+                        .updatedAt(row.get("updated_at", OffsetDateTime.class))
+                        .version(row.get("version", Long.class))
+                        .build())
+                .all();
+    }
+
+    private static SyncChange toSyncChange(Row row, UUID userId) {
+        long changeSeq = row.get("change_seq", Long.class);
+        UUID id = row.get("id", UUID.class);
+        UUID spaceId = row.get("space_id", UUID.class);
+        OffsetDateTime deletedAt = row.get("deleted_at", OffsetDateTime.class);
+        if (deletedAt != null) {
+            return new SyncChange(changeSeq, null, TransactionTombstone.builder()
+                    .id(id)
+                    .spaceId(spaceId)
+                    .userId(userId)
+                    .changeSeq(changeSeq)
+                    .deletedAt(deletedAt)
+                    .build());
+        }
+        return new SyncChange(changeSeq, Transaction.builder()
+                .id(id)
+                .spaceId(spaceId)
+                .userId(userId)
+                .type(TransactionType.valueOf(row.get("type", String.class)))
+                .amount(row.get("amount", BigDecimal.class))
+                .description(row.get("description", String.class))
+                .transactionDate(row.get("transaction_date", LocalDate.class))
+                .createdAt(row.get("created_at", OffsetDateTime.class))
+                .updatedAt(row.get("updated_at", OffsetDateTime.class))
+                .changeSeq(changeSeq)
+                .build(), null);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.wallet.core.repository;
+
+import com.example.wallet.core.domain.PeriodTotals;
+import com.example.wallet.core.domain.SpaceDailyRollup;
+import com.example.wallet.core.domain.SpaceDailyRollupId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SpaceDailyRollupRepository extends JpaRepository<SpaceDailyRollup, SpaceDailyRollupId> {
+
+    // Adds a write's effect to one (space, day, type) row, creating it on first use.
+    // Reads no managed state, so skip the auto-flush that would dirty-check every entity of a bulk insert per call.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query(value = "INSERT INTO space_daily_rollups (space_id, rollup_date, type, total_amount, transaction_count) " +
+            "VALUES (:spaceId, :rollupDate, :type, :amountDelta, :countDelta) " +
+            "ON CONFLICT (space_id, rollup_date, type) DO UPDATE SET " +
+            "total_amount = space_daily_rollups.total_amount + EXCLUDED.total_amount, " +
+            "transaction_count = space_daily_rollups.transaction_count + EXCLUDED.transaction_count",
+            nativeQuery = true)
+    int addToRollup(UUID spaceId, LocalDate rollupDate, String type, BigDecimal amountDelta, long countDelta);
+
+    // Same upsert for many (day, type) rows of one space in a single statement; the arrays are parallel
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query(value = "INSERT INTO space_daily_rollups (space_id, rollup_date, type, total_amount, transaction_count) " +
+            "SELECT :spaceId, d.rollup_date, d.type, d.amount_delta, d.count_delta " +
+            "FROM unnest(CAST(:rollupDates AS date[]), CAST(:types AS varchar[]), CAST(:amountDeltas AS numeric[]), " +
+            "CAST(:countDeltas AS bigint[])) AS d(rollup_date, type, amount_delta, count_delta) " +
+            "ON CONFLICT (space_id, rollup_date, type) DO UPDATE SET " +
+            "total_amount = space_daily_rollups.total_amount + EXCLUDED.total_amount, " +
+            "transaction_count = space_daily_rollups.transaction_count + EXCLUDED.transaction_count",
+            nativeQuery = true)
+    int addToRollups(UUID spaceId, LocalDate[] rollupDates, String[] types, BigDecimal[] amountDeltas, Long[] countDeltas);
+
+    @Modifying
+    @Query("DELETE FROM SpaceDailyRollup r WHERE r.id.spaceId = :spaceId")
+    int deleteBySpaceId(UUID spaceId);
+
+    // Recomputes all rollups of a space from its stored transactions (run after deleteBySpaceId)
+    @Modifying
+    @Query(value = "INSERT INTO space_daily_rollups (space_id, rollup_date, type, total_amount, transaction_count) " +
+            "SELECT t.space_id, t.transaction_date, t.type, SUM(t.amount), COUNT(*) " +
+            "FROM transactions t WHERE t.space_id = :spaceId " +
+            "GROUP BY t.space_id, t.transaction_date, t.type", nativeQuery = true)
+    int insertFromTransactions(UUID spaceId);
+
+    // Daily totals in a date range, read straight off the primary key
+    @Query("SELECT new com.example.wallet.core.domain.PeriodTotals(r.id.rollupDate, r.id.type, r.totalAmount, r.transactionCount) " +
+            "FROM SpaceDailyRollup r WHERE r.id.spaceId = :spaceId AND r.id.rollupDate BETWEEN :from AND :to " +
+            "AND r.transactionCount > 0 ORDER BY r.id.rollupDate ASC")
+    List<PeriodTotals> findDailyTotals(UUID spaceId, LocalDate from, LocalDate to);
+
+    // Same totals computed from raw transactions, for spaces whose rollups have not been seeded yet
+    @Query("SELECT new com.example.wallet.core.domain.PeriodTotals(t.transactionDate, t.type, SUM(t.amount), COUNT(t.id)) " +
+            "FROM Transaction t WHERE t.spaceId = :spaceId AND t.transactionDate BETWEEN :from AND :to " +
+            "GROUP BY t.transactionDate, t.type ORDER BY t.transactionDate ASC")
+    List<PeriodTotals> computeDailyTotals(UUID spaceId, LocalDate from, LocalDate to);
+}
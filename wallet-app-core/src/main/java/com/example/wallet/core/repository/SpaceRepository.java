@@ -1,9 +1,12 @@
 package com.example.wallet.core.repository;
 
 import com.example.wallet.core.domain.Space;
+import com.example.wallet.core.domain.SpaceOwner;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,5 +21,11 @@ public interface SpaceRepository extends JpaRepository<Space, UUID> {
     Optional<Space> findByIdAndUserId(UUID id, UUID userId);
 
     boolean existsByIdAndUserId(UUID spaceId, UUID userId);
-    
+
+    // Owner lookups backing SpaceOwnershipCache
+    @Query("SELECT s.userId FROM Space s WHERE s.id = :spaceId")
+    Optional<UUID> findOwnerIdById(UUID spaceId);
+
+    @Query("SELECT new com.example.wallet.core.domain.SpaceOwner(s.id, s.userId) FROM Space s WHERE s.id IN :spaceIds")
+    List<SpaceOwner> findOwnersByIds(Collection<? extends UUID> spaceIds);
 }
\ No newline at end of file
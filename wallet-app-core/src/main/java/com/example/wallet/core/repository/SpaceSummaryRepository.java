@@ -0,0 +1,59 @@
+package com.example.wallet.core.repository;
+
+import com.example.wallet.core.domain.SpaceSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SpaceSummaryRepository extends JpaRepository<SpaceSummary, UUID> {
+
+    Optional<SpaceSummary> findBySpaceIdAndUserId(UUID spaceId, UUID userId);
+
+    // Just the change sequence, for validators that must not come from a cache
+    @Query("SELECT s.lastChangeSeq FROM SpaceSummary s WHERE s.spaceId = :spaceId AND s.userId = :userId")
+    Optional<Long> findLastChangeSeq(UUID spaceId, UUID userId);
+
+    // Applies a write's effect in place; returns 0 when the space has no summary row yet
+    @Modifying
+    @Query("UPDATE SpaceSummary s SET s.totalIncome = s.totalIncome + :incomeDelta, " +
+            "s.totalExpense = s.totalExpense + :expenseDelta, " +
+            "s.transactionCount = s.transactionCount + :countDelta, " +
+            "s.lastActivityAt = :activityAt, " +
+            "s.lastChangeSeq = GREATEST(s.lastChangeSeq, :changeSeq) " +
+            "WHERE s.spaceId = :spaceId")
+    int applyDelta(UUID spaceId, BigDecimal incomeDelta, BigDecimal expenseDelta, long countDelta, OffsetDateTime activityAt,
+                   long changeSeq);
+
+    // Seeds a summary row from the transactions already stored for the space (zero rows for a new space).
+    // Returns 0 if another writer created the row first.
+    @Modifying
+    @Query(value = "INSERT INTO space_summaries (space_id, user_id, total_income, total_expense, transaction_count, last_activity_at, last_change_seq) " +
+            "SELECT :spaceId, :userId, " +
+            "COALESCE(SUM(t.amount) FILTER (WHERE t.type = 'INCOME'), 0), " +
+            "COALESCE(SUM(t.amount) FILTER (WHERE t.type = 'EXPENSE'), 0), " +
+            "COUNT(t.id), :activityAt, GREATEST(COALESCE(MAX(t.change_seq), 0), :changeSeq) " +
+            "FROM transactions t WHERE t.space_id = :spaceId " +
+            "ON CONFLICT (space_id) DO NOTHING", nativeQuery = true)
+    int insertFromTransactions(UUID spaceId, UUID userId, OffsetDateTime activityAt, long changeSeq);
+
+    // Same totals computed on the fly, for reading spaces that have not been written to since summaries existed.
+    // Empty when the space does not exist or belongs to another user.
+    @Query("SELECT new com.example.wallet.core.domain.SpaceSummary(s.id, s.userId, " +
+            "COALESCE(SUM(CASE WHEN t.type = com.example.wallet.core.domain.TransactionType.INCOME THEN t.amount END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.type = com.example.wallet.core.domain.TransactionType.EXPENSE THEN t.amount END), 0), " +
+            "COUNT(t.id), MAX(t.updatedAt), COALESCE(MAX(t.changeSeq), 0)) " +
+            "FROM Space s LEFT JOIN Transaction t ON t.spaceId = s.id " +
+            "WHERE s.id = :spaceId AND s.userId = :userId GROUP BY s.id, s.userId")
+    Optional<SpaceSummary> computeFromTransactions(UUID spaceId, UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM SpaceSummary s WHERE s.spaceId = :spaceId")
+    int deleteBySpaceId(UUID spaceId);
+}
@@ -2,15 +2,21 @@
 package com.example.wallet.core.repository;
 
 import com.example.wallet.core.domain.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
@@ -19,6 +25,20 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
     // Requires userId check separately in service layer
     List<Transaction> findBySpaceIdOrderByTransactionDateDescCreatedAtDesc(UUID spaceId);
 
+    // Keyset pagination: first page of a space, newest first. Pageable only carries the row limit.
+    @Query("SELECT t FROM Transaction t WHERE t.spaceId = :spaceId " +
+            "ORDER BY t.transactionDate DESC, t.createdAt DESC, t.id DESC")
+    List<Transaction> findFirstPageBySpaceId(UUID spaceId, Pageable limit);
+
+    // Keyset pagination: rows strictly after the given (transactionDate, createdAt, id) position.
+    // The tuple comparison is rendered as a row-value predicate so PostgreSQL can seek
+    // straight into idx_transactions_space_keyset instead of skipping OFFSET rows.
+    @Query("SELECT t FROM Transaction t WHERE t.spaceId = :spaceId " +
+            "AND (t.transactionDate, t.createdAt, t.id) < (:transactionDate, :createdAt, :id) " +
+            "ORDER BY t.transactionDate DESC, t.createdAt DESC, t.id DESC")
+    List<Transaction> findPageBySpaceIdAfter(UUID spaceId, LocalDate transactionDate, OffsetDateTime createdAt,
+            UUID id, Pageable limit);
+
     // Find a specific transaction by its ID and the user ID (for authorization)
     Optional<Transaction> findByIdAndUserId(UUID id, UUID userId);
 
@@ -26,6 +46,30 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
     // sync)
     List<Transaction> findByUserIdAndUpdatedAtAfterOrderByUpdatedAtAsc(UUID userId, OffsetDateTime timestamp);
 
+    // Forward-only cursor over all of a user's transactions in change order (for export). PostgreSQL only streams
+    // with a fetch size inside a transaction; read-only skips snapshot copies for dirty checking.
+    @Query("SELECT t FROM Transaction t WHERE t.userId = :userId ORDER BY t.changeSeq ASC")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Transaction> streamByUserId(UUID userId);
+
+    // Changes for a user after a change sequence position (for sync); Pageable only carries the row limit
+    List<Transaction> findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(UUID userId, long changeSeq, Pageable limit);
+
+    // Takes a per-user advisory lock for the rest of the DB transaction, then draws the next change sequence.
+    // Holding the lock until commit means a user's change sequences become visible in the order they were
+    // assigned, so a sync client that has seen sequence N can never later miss a lower one.
+    @Query(value = "SELECT nextval('transaction_change_seq') FROM (SELECT pg_advisory_xact_lock(:lockKey)) AS user_lock",
+            nativeQuery = true)
+    long lockAndNextChangeSeq(long lockKey);
+
+    // Same lock, but draws a block of 'count' sequences in one round trip for bulk inserts
+    @Query(value = "SELECT nextval('transaction_change_seq') FROM (SELECT pg_advisory_xact_lock(:lockKey)) AS user_lock " +
+            "CROSS JOIN generate_series(1, :count)", nativeQuery = true)
+    List<Long> lockAndNextChangeSeqs(long lockKey, int count);
+
     // Check if a transaction exists for a given user and space (useful for auth
     // before fetching list)
     boolean existsByIdAndUserId(UUID id, UUID userId);
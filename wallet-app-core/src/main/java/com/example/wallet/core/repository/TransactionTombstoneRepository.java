@@ -0,0 +1,16 @@
+package com.example.wallet.core.repository;
+
+import com.example.wallet.core.domain.TransactionTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TransactionTombstoneRepository extends JpaRepository<TransactionTombstone, UUID> {
+
+    // Deletions for a user after a change sequence position (for sync); Pageable only carries the row limit
+    List<TransactionTombstone> findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(UUID userId, long changeSeq, Pageable limit);
+}
@@ -0,0 +1,16 @@
+package com.example.wallet.core.service;
+
+import com.example.wallet.core.domain.Space;
+import com.example.wallet.core.domain.SyncChange;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+public interface ReactiveReadService {
+
+    /** Streams up to {@code limit} changes (upserts and deletions) of the user's transactions after the given change sequence, in change order. */
+    Flux<SyncChange> streamChangesForUser(UUID userId, long afterChangeSeq, int limit);
+
+    /** Streams the user's spaces in creation order. */
+    Flux<Space> streamSpacesForUser(UUID userId);
+}
@@ -0,0 +1,14 @@
+package com.example.wallet.core.service;
+
+import com.example.wallet.core.domain.AnalyticsBucket;
+import com.example.wallet.core.domain.PeriodTotals;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface SpaceAnalyticsService {
+
+    /** Retrieves per-type sums and counts of a space between two dates (inclusive), grouped into day/week/month buckets. */
+    List<PeriodTotals> getTotals(UUID userId, UUID spaceId, LocalDate from, LocalDate to, AnalyticsBucket bucket);
+}
@@ -0,0 +1,36 @@
+package com.example.wallet.core.service;
+
+import com.example.wallet.core.domain.SpaceSummary;
+import com.example.wallet.core.domain.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface SpaceSummaryService {
+
+    /** Retrieves the balance and totals of a space if it belongs to the user. */
+    SpaceSummary getSummary(UUID userId, UUID spaceId);
+
+    /** Last change sequence of a space owned by the user, current as of this call on every instance; backs page ETags. */
+    long getLastChangeSeq(UUID userId, UUID spaceId);
+
+    /** Creates the empty summary row for a newly created space. */
+    void initializeSummary(UUID userId, UUID spaceId);
+
+    /** Applies a newly created transaction to its space summary and daily rollups. Must run in the writing DB transaction. */
+    void recordCreated(Transaction transaction);
+
+    /** Applies a batch of newly created transactions with one summary update per space and one rollup upsert per day and type. Must run in the writing DB transaction. */
+    void recordCreated(List<Transaction> transactions);
+
+    /** Applies an amount/date change of an existing transaction to its space summary and daily rollups. Must run in the writing DB transaction. */
+    void recordUpdated(Transaction transaction, BigDecimal previousAmount, LocalDate previousDate);
+
+    /** Removes a deleted transaction (whose deletion got {@code changeSeq}) from its space summary and daily rollups. Must run in the writing DB transaction. */
+    void recordDeleted(Transaction transaction, long changeSeq);
+
+    /** Drops the summary and daily rollups of a deleted space. */
+    void deleteSummary(UUID spaceId);
+}
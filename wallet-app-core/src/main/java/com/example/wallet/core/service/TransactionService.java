@@ -1,6 +1,11 @@
 package com.example.wallet.core.service;
 
+import com.example.wallet.core.domain.NewTransaction;
+import com.example.wallet.core.domain.SyncBatch;
 import com.example.wallet.core.domain.Transaction;
+import com.example.wallet.core.domain.TransactionBatchResult;
+import com.example.wallet.core.domain.TransactionCursor;
+import com.example.wallet.core.domain.TransactionPage;
 import com.example.wallet.core.domain.TransactionType;
 
 import java.math.BigDecimal;
@@ -8,21 +13,34 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface TransactionService {
 
     /** Creates a transaction within a specific space, ensuring the user owns the space. */
     Transaction createTransaction(UUID userId, UUID spaceId, TransactionType type, BigDecimal amount, LocalDate transactionDate, String description);
 
+    /** Creates many transactions in one DB transaction, checking ownership once per distinct space; items in inaccessible spaces are skipped. */
+    TransactionBatchResult createTransactions(UUID userId, List<NewTransaction> transactions);
+
     /** Retrieves a specific transaction if it belongs to the user. */
     Transaction getTransactionById(UUID userId, UUID transactionId);
 
     /** Retrieves all transactions for a specific space, ensuring the user owns the space. */
     List<Transaction> getTransactionsForSpace(UUID userId, UUID spaceId);
 
+    /** Retrieves one keyset page of a space's transactions (newest first), ensuring the user owns the space. */
+    TransactionPage getTransactionsForSpace(UUID userId, UUID spaceId, TransactionCursor after, int limit);
+
     /** Retrieves transactions for a user updated after a given timestamp (for sync). */
     List<Transaction> getTransactionsForUserSince(UUID userId, OffsetDateTime since);
 
+    /** Passes every transaction of the user, in change order, to {@code action} one at a time without holding them in memory; returns the count. */
+    long exportTransactionsForUser(UUID userId, Consumer<Transaction> action);
+
+    /** Retrieves at most {@code limit} upserts and deletions for a user after the given change sequence (for sync). */
+    SyncBatch getChangesForUser(UUID userId, long afterChangeSeq, int limit);
+
     /** Updates an existing transaction if it belongs to the user. */
     Transaction updateTransaction(UUID userId, UUID transactionId, BigDecimal amount, LocalDate transactionDate, String description);
 
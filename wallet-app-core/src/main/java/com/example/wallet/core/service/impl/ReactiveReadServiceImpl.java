@@ -0,0 +1,36 @@
+package com.example.wallet.core.service.impl;
+
+import com.example.wallet.core.domain.Space;
+import com.example.wallet.core.domain.SyncChange;
+import com.example.wallet.core.repository.ReactiveReadRepository;
+import com.example.wallet.core.service.ReactiveReadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+// No @Transactional: each stream is a single statement on its own R2DBC connection, never a JPA transaction
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    @Override
+    public Flux<SyncChange> streamChangesForUser(UUID userId, long afterChangeSeq, int limit) {
+        log.debug("Streaming up to {} changes for user {} after change sequence {}", limit, userId, afterChangeSeq);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Sync stream limit must be positive: " + limit);
+        }
+        return reactiveReadRepository.streamChanges(userId, afterChangeSeq, limit);
+    }
+
+    @Override
+    public Flux<Space> streamSpacesForUser(UUID userId) {
+        log.debug("Streaming spaces for user {}", userId);
+        return reactiveReadRepository.streamSpaces(userId);
+    }
+}
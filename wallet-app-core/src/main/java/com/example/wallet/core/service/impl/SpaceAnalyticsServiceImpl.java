@@ -0,0 +1,72 @@
+package com.example.wallet.core.service.impl;
+
+import com.example.wallet.common.exception.InvalidRequestException;
+import com.example.wallet.common.exception.ResourceNotFoundException;
+import com.example.wallet.core.domain.AnalyticsBucket;
+import com.example.wallet.core.domain.PeriodTotals;
+import com.example.wallet.core.domain.TransactionType;
+import com.example.wallet.core.repository.SpaceDailyRollupRepository;
+import com.example.wallet.core.repository.SpaceRepository;
+import com.example.wallet.core.repository.SpaceSummaryRepository;
+import com.example.wallet.core.service.SpaceAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SpaceAnalyticsServiceImpl implements SpaceAnalyticsService {
+
+    private static final long MAX_RANGE_DAYS = 3 * 366; // Keeps a single request at roughly a thousand rollup days
+
+    private final SpaceSummaryRepository summaryRepository;
+    private final SpaceDailyRollupRepository rollupRepository;
+    private final SpaceRepository spaceRepository;
+
+    @Override
+    public List<PeriodTotals> getTotals(UUID userId, UUID spaceId, LocalDate from, LocalDate to, AnalyticsBucket bucket) {
+        log.debug("Fetching {} totals of space {} for user {} from {} to {}", bucket, spaceId, userId, from, to);
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new InvalidRequestException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        List<PeriodTotals> daily;
+        if (summaryRepository.findBySpaceIdAndUserId(spaceId, userId).isPresent()) {
+            daily = rollupRepository.findDailyTotals(spaceId, from, to);
+        } else if (spaceRepository.existsByIdAndUserId(spaceId, userId)) {
+            // Rollups are seeded on the first write after summaries were introduced; until then aggregate raw rows
+            daily = rollupRepository.computeDailyTotals(spaceId, from, to);
+        } else {
+            throw new ResourceNotFoundException("Space", "id", spaceId + " for user " + userId);
+        }
+        return bucket == AnalyticsBucket.DAY ? daily : regroup(daily, bucket);
+    }
+
+    // Folds daily rows (ordered by date) into wider buckets, keeping bucket order and per-type grouping
+    private static List<PeriodTotals> regroup(List<PeriodTotals> daily, AnalyticsBucket bucket) {
+        Map<LocalDate, Map<TransactionType, PeriodTotals>> buckets = new LinkedHashMap<>();
+        for (PeriodTotals day : daily) {
+            LocalDate start = bucket.startOf(day.periodStart());
+            buckets.computeIfAbsent(start, key -> new LinkedHashMap<>())
+                .merge(day.type(), new PeriodTotals(start, day.type(), day.total(), day.count()),
+                    (a, b) -> new PeriodTotals(start, a.type(), a.total().add(b.total()), a.count() + b.count()));
+        }
+        List<PeriodTotals> result = new ArrayList<>();
+        buckets.values().forEach(byType -> result.addAll(byType.values()));
+        return result;
+    }
+}
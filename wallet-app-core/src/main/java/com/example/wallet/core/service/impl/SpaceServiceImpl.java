@@ -1,12 +1,19 @@
 package com.example.wallet.core.service.impl;
 
 import com.example.wallet.common.exception.ResourceNotFoundException;
+import com.example.wallet.core.cache.SpaceListCache;
+import com.example.wallet.core.cache.SpaceOwnershipCache;
 import com.example.wallet.core.domain.Space;
+import com.example.wallet.core.event.ChangeEvent;
 import com.example.wallet.core.repository.SpaceRepository;
 import com.example.wallet.core.service.SpaceService;
+import com.example.wallet.core.service.SpaceSummaryService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -16,9 +23,14 @@ import java.util.UUID;
 @RequiredArgsConstructor // Constructor injection via Lombok
 @Slf4j // Logging facade
 @Transactional // Default transaction demarcation for all public methods
+@Timed("wallet.service") // Per-method latency histograms: wallet.service{class,method,exception}
 public class SpaceServiceImpl implements SpaceService {
 
     private final SpaceRepository spaceRepository;
+    private final SpaceSummaryService spaceSummaryService;
+    private final SpaceOwnershipCache spaceOwnershipCache;
+    private final SpaceListCache spaceListCache; // Invalidated by every space write of the user
+    private final ApplicationEventPublisher eventPublisher; // ChangeEvents for live clients, delivered after commit
     // Inject TransactionRepository if needed for cascading deletes or validation
 
     @Override
@@ -31,6 +43,9 @@ public class SpaceServiceImpl implements SpaceService {
             .currency(currency.toUpperCase()) // Ensure currency code consistency
             .build();
         Space savedSpace = spaceRepository.save(space);
+        spaceSummaryService.initializeSummary(userId, savedSpace.getId()); // Start with zero totals
+        spaceListCache.evict(userId);
+        eventPublisher.publishEvent(ChangeEvent.forSpace(ChangeEvent.Type.SPACE_CREATED, savedSpace));
         log.info("Space created successfully with id {}", savedSpace.getId());
         return savedSpace;
     }
@@ -46,10 +61,10 @@ public class SpaceServiceImpl implements SpaceService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true) // A cache hit should not check out a connection
     public List<Space> getSpacesForUser(UUID userId) {
         log.debug("Fetching all spaces for user {}", userId);
-        return spaceRepository.findByUserIdOrderByCreatedAtAsc(userId);
+        return spaceListCache.get(userId, spaceRepository::findByUserIdOrderByCreatedAtAsc); // Spaces change rarely; read through the cache
     }
 
     @Override
@@ -62,6 +77,8 @@ public class SpaceServiceImpl implements SpaceService {
         // Note: Currency is typically not updated. Add if needed.
 
         Space updatedSpace = spaceRepository.save(existingSpace); // JPA handles update due to attached entity state
+        spaceListCache.evict(userId);
+        eventPublisher.publishEvent(ChangeEvent.forSpace(ChangeEvent.Type.SPACE_UPDATED, updatedSpace));
         log.info("Space {} updated successfully", spaceId);
         return updatedSpace;
     }
@@ -77,6 +94,10 @@ public class SpaceServiceImpl implements SpaceService {
         // Option 3: Soft delete (add an 'isActive' flag to Space) - Recommended for financial apps
         // For now, we proceed with hard delete assuming cascade or manual cleanup later.
         spaceRepository.delete(spaceToDelete);
+        spaceSummaryService.deleteSummary(spaceId);
+        spaceOwnershipCache.evict(spaceId); // Ownership checks must stop succeeding for the deleted space
+        spaceListCache.evict(userId);
+        eventPublisher.publishEvent(ChangeEvent.forSpace(ChangeEvent.Type.SPACE_DELETED, spaceToDelete));
         log.info("Space {} deleted successfully", spaceId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+package com.example.wallet.core.service.impl;
+
+import com.example.wallet.common.exception.ResourceNotFoundException;
+import com.example.wallet.core.cache.SpaceSummaryCache;
+import com.example.wallet.core.domain.PeriodTotals;
+import com.example.wallet.core.domain.SpaceSummary;
+import com.example.wallet.core.domain.Transaction;
+import com.example.wallet.core.domain.TransactionType;
+import com.example.wallet.core.repository.SpaceDailyRollupRepository;
+import com.example.wallet.core.repository.SpaceSummaryRepository;
+import com.example.wallet.core.repository.TransactionRepository;
+import com.example.wallet.core.service.SpaceSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SpaceSummaryServiceImpl implements SpaceSummaryService {
+
+    private final SpaceSummaryRepository summaryRepository;
+    private final SpaceDailyRollupRepository rollupRepository;
+    private final TransactionRepository transactionRepository; // Flushed before seeding aggregates from it
+    private final SpaceSummaryCache spaceSummaryCache; // Invalidated by every change applied to a summary
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true) // A cache hit should not check out a connection
+    public SpaceSummary getSummary(UUID userId, UUID spaceId) {
+        log.debug("Fetching summary of space {} for user {}", spaceId, userId);
+        SpaceSummary summary = spaceSummaryCache.get(spaceId, id -> summaryRepository.findBySpaceIdAndUserId(id, userId)
+            // Spaces untouched since summaries were introduced: aggregate once, the next write persists the row
+            .or(() -> summaryRepository.computeFromTransactions(id, userId))
+            .orElse(null));
+        // Entries are keyed by space only, so a hit loaded for the owner must still be checked against the caller
+        if (summary == null || !summary.getUserId().equals(userId)) {
+            throw new ResourceNotFoundException("Space", "id", spaceId + " for user " + userId);
+        }
+        return summary;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long getLastChangeSeq(UUID userId, UUID spaceId) {
+        if (spaceSummaryCache.isCoherentAcrossInstances()) {
+            return getSummary(userId, spaceId).getLastChangeSeq();
+        }
+        // A write through another instance does not evict our cached copy, so a cached sequence could validate
+        // an outdated page (stale 304) for up to the cache TTL; read the one column instead
+        return summaryRepository.findLastChangeSeq(spaceId, userId)
+            .orElseGet(() -> getSummary(userId, spaceId).getLastChangeSeq()); // No row yet: computed, or not found
+    }
+
+    @Override
+    public void initializeSummary(UUID userId, UUID spaceId) {
+        summaryRepository.insertFromTransactions(spaceId, userId, OffsetDateTime.now(), 0);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY) // Aggregates must commit or roll back with the transaction write
+    public void recordCreated(Transaction transaction) {
+        BigDecimal amount = transaction.getAmount();
+        applyChange(transaction, amount, 1, transaction.getChangeSeq(), () ->
+            addToRollup(transaction, transaction.getTransactionDate(), amount, 1));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(List<Transaction> transactions) {
+        // Fold the batch into per-space and per-(space, day, type) deltas so a 10k-row import
+        // costs two statements per space instead of two per row
+        Map<UUID, List<Transaction>> bySpace = transactions.stream()
+            .collect(Collectors.groupingBy(Transaction::getSpaceId, LinkedHashMap::new, Collectors.toList()));
+
+        bySpace.forEach((spaceId, spaceTransactions) -> {
+            BigDecimal incomeDelta = BigDecimal.ZERO;
+            BigDecimal expenseDelta = BigDecimal.ZERO;
+            long changeSeq = 0;
+            Map<RollupKey, PeriodTotals> rollupDeltas = new LinkedHashMap<>();
+            for (Transaction transaction : spaceTransactions) {
+                BigDecimal amount = transaction.getAmount();
+                if (transaction.getType() == TransactionType.INCOME) {
+                    incomeDelta = incomeDelta.add(amount);
+                } else if (transaction.getType() == TransactionType.EXPENSE) {
+                    expenseDelta = expenseDelta.add(amount);
+                }
+                changeSeq = Math.max(changeSeq, transaction.getChangeSeq());
+                RollupKey key = new RollupKey(transaction.getTransactionDate(), transaction.getType());
+                rollupDeltas.merge(key, new PeriodTotals(key.day(), key.type(), amount, 1),
+                    (a, b) -> new PeriodTotals(a.periodStart(), a.type(), a.total().add(b.total()), a.count() + b.count()));
+            }
+
+            applyChange(spaceId, spaceTransactions.get(0).getUserId(), incomeDelta, expenseDelta, spaceTransactions.size(), changeSeq, () ->
+                addToRollups(spaceId, rollupDeltas.values()));
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Transaction transaction, BigDecimal previousAmount, LocalDate previousDate) {
+        BigDecimal amount = transaction.getAmount();
+        applyChange(transaction, amount.subtract(previousAmount), 0, transaction.getChangeSeq(), () -> {
+            if (previousDate.equals(transaction.getTransactionDate())) {
+                addToRollup(transaction, previousDate, amount.subtract(previousAmount), 0);
+            } else {
+                // Moved to another day: take it out of the old day and add it to the new one
+                addToRollup(transaction, previousDate, previousAmount.negate(), -1);
+                addToRollup(transaction, transaction.getTransactionDate(), amount, 1);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Transaction transaction, long changeSeq) {
+        BigDecimal amount = transaction.getAmount().negate();
+        applyChange(transaction, amount, -1, changeSeq, () ->
+            addToRollup(transaction, transaction.getTransactionDate(), amount, -1));
+    }
+
+    @Override
+    public void deleteSummary(UUID spaceId) {
+        summaryRepository.deleteBySpaceId(spaceId);
+        rollupRepository.deleteBySpaceId(spaceId);
+        spaceSummaryCache.evict(spaceId);
+    }
+
+    // --- Helper methods ---
+
+    // The summary row doubles as the marker that a space's aggregates are maintained incrementally
+    private void applyChange(Transaction transaction, BigDecimal amountDelta, long countDelta, long changeSeq, Runnable rollupChange) {
+        TransactionType type = transaction.getType();
+        BigDecimal incomeDelta = type == TransactionType.INCOME ? amountDelta : BigDecimal.ZERO;
+        BigDecimal expenseDelta = type == TransactionType.EXPENSE ? amountDelta : BigDecimal.ZERO;
+        applyChange(transaction.getSpaceId(), transaction.getUserId(), incomeDelta, expenseDelta, countDelta, changeSeq, rollupChange);
+    }
+
+    private void applyChange(UUID spaceId, UUID userId, BigDecimal incomeDelta, BigDecimal expenseDelta, long countDelta,
+                             long changeSeq, Runnable rollupChange) {
+        OffsetDateTime now = OffsetDateTime.now();
+        spaceSummaryCache.evict(spaceId);
+
+        if (summaryRepository.applyDelta(spaceId, incomeDelta, expenseDelta, countDelta, now, changeSeq) > 0) {
+            rollupChange.run();
+            return;
+        }
+        // No row yet (space predates summaries): seed summary and rollups from the transactions table,
+        // which after the flush already reflects this write, so the delta must not be applied again.
+        transactionRepository.flush();
+        if (summaryRepository.insertFromTransactions(spaceId, userId, now, changeSeq) > 0) {
+            log.info("Seeding summary and daily rollups for space {} from stored transactions", spaceId);
+            rollupRepository.deleteBySpaceId(spaceId);
+            rollupRepository.insertFromTransactions(spaceId);
+        } else {
+            // A concurrent writer seeded both without seeing our uncommitted change
+            summaryRepository.applyDelta(spaceId, incomeDelta, expenseDelta, countDelta, now, changeSeq);
+            rollupChange.run();
+        }
+    }
+
+    private void addToRollup(Transaction transaction, LocalDate day, BigDecimal amountDelta, long countDelta) {
+        rollupRepository.addToRollup(transaction.getSpaceId(), day, transaction.getType().name(), amountDelta, countDelta);
+    }
+
+    // One statement for all days of a batch, however many distinct dates an import spans
+    private void addToRollups(UUID spaceId, Collection<PeriodTotals> deltas) {
+        int size = deltas.size();
+        LocalDate[] days = new LocalDate[size];
+        String[] types = new String[size];
+        BigDecimal[] amounts = new BigDecimal[size];
+        Long[] counts = new Long[size];
+        int index = 0;
+        for (PeriodTotals delta : deltas) {
+            days[index] = delta.periodStart();
+            types[index] = delta.type().name();
+            amounts[index] = delta.total();
+            counts[index] = delta.count();
+            index++;
+        }
+        rollupRepository.addToRollups(spaceId, days, types, amounts, counts);
+    }
+
+    private record RollupKey(LocalDate day, TransactionType type) {
+    }
+}
@@ -1,38 +1,67 @@
 package com.example.wallet.core.service.impl;
 
 import com.example.wallet.common.exception.ResourceNotFoundException;
+import com.example.wallet.core.cache.SpaceOwnershipCache;
+import com.example.wallet.core.domain.NewTransaction;
+import com.example.wallet.core.domain.SyncBatch;
 import com.example.wallet.core.domain.Transaction;
+import com.example.wallet.core.domain.TransactionBatchResult;
+import com.example.wallet.core.domain.TransactionCursor;
+import com.example.wallet.core.domain.TransactionPage;
+import com.example.wallet.core.domain.TransactionTombstone;
 import com.example.wallet.core.domain.TransactionType;
-import com.example.wallet.core.repository.SpaceRepository;
+import com.example.wallet.core.event.ChangeEvent;
 import com.example.wallet.core.repository.TransactionRepository;
+import com.example.wallet.core.repository.TransactionTombstoneRepository;
+import com.example.wallet.core.service.SpaceSummaryService;
 import com.example.wallet.core.service.TransactionService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Timed("wallet.service") // Per-method latency histograms: wallet.service{class,method,exception}
 public class TransactionServiceImpl implements TransactionService {
 
     private final TransactionRepository transactionRepository;
-    private final SpaceRepository spaceRepository; // Needed to verify space ownership
+    private final SpaceOwnershipCache spaceOwnershipCache; // Answers space ownership checks, mostly from memory
+    private final TransactionTombstoneRepository tombstoneRepository;
+    private final SpaceSummaryService spaceSummaryService; // Keeps per-space totals in step with every write
+    private final ApplicationEventPublisher eventPublisher; // ChangeEvents for live clients, delivered after commit
+
+    @PersistenceContext
+    private EntityManager entityManager; // Only for detaching streamed rows during exports
 
     @Override
     public Transaction createTransaction(UUID userId, UUID spaceId, TransactionType type, BigDecimal amount, LocalDate transactionDate, String description) {
         log.info("Creating transaction for user {} in space {}", userId, spaceId);
 
         // *** CRITICAL: Verify the user owns the space before creating a transaction in it ***
-        if (!spaceRepository.existsByIdAndUserId(spaceId, userId)) {
+        if (!spaceOwnershipCache.isOwnedBy(spaceId, userId)) {
              log.warn("User {} attempted to create transaction in unauthorized or non-existent space {}", userId, spaceId);
              throw new ResourceNotFoundException("Space", "id", spaceId + " accessible by user " + userId); // Or UnauthorizedAccess
         }
@@ -44,13 +73,65 @@ public class TransactionServiceImpl implements TransactionService {
             .amount(amount)
             .transactionDate(transactionDate)
             .description(description)
+            .changeSeq(nextChangeSeq(userId))
             .build();
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        spaceSummaryService.recordCreated(savedTransaction);
+        eventPublisher.publishEvent(ChangeEvent.transactionCreated(savedTransaction));
         log.info("Transaction {} created successfully in space {}", savedTransaction.getId(), spaceId);
         return savedTransaction;
     }
 
+    @Override
+    public TransactionBatchResult createTransactions(UUID userId, List<NewTransaction> transactions) {
+        log.info("Creating {} transactions for user {}", transactions.size(), userId);
+        if (transactions.isEmpty()) {
+            return new TransactionBatchResult(List.of(), Set.of());
+        }
+
+        // Ownership per distinct space, from the cache; at most one query for all misses
+        Set<UUID> requestedSpaceIds = transactions.stream().map(NewTransaction::spaceId).collect(Collectors.toSet());
+        Set<UUID> ownedSpaceIds = spaceOwnershipCache.filterOwnedBy(userId, requestedSpaceIds);
+        Set<UUID> inaccessibleSpaceIds = new HashSet<>(requestedSpaceIds);
+        inaccessibleSpaceIds.removeAll(ownedSpaceIds);
+        if (!inaccessibleSpaceIds.isEmpty()) {
+            log.warn("User {} attempted to create transactions in unauthorized or non-existent spaces {}", userId, inaccessibleSpaceIds);
+        }
+
+        List<NewTransaction> accepted = transactions.stream()
+            .filter(item -> ownedSpaceIds.contains(item.spaceId()))
+            .toList();
+        if (accepted.isEmpty()) {
+            return new TransactionBatchResult(List.of(), inaccessibleSpaceIds);
+        }
+
+        Iterator<Long> changeSeqs = nextChangeSeqs(userId, accepted.size()).iterator();
+        List<Transaction> toSave = new ArrayList<>(accepted.size());
+        for (NewTransaction item : accepted) {
+            toSave.add(Transaction.builder()
+                .userId(userId)
+                .spaceId(item.spaceId())
+                .type(item.type())
+                .amount(item.amount())
+                .transactionDate(item.transactionDate())
+                .description(item.description())
+                .changeSeq(changeSeqs.next())
+                .build());
+        }
+
+        // Ids are generated in memory, so Hibernate sends these as JDBC batches (hibernate.jdbc.batch_size)
+        List<Transaction> savedTransactions = transactionRepository.saveAll(toSave);
+        spaceSummaryService.recordCreated(savedTransactions);
+        // One event per space rather than per row, so a 10k-row import does not flood connected clients
+        savedTransactions.stream()
+            .collect(Collectors.groupingBy(Transaction::getSpaceId, Collectors.summarizingLong(Transaction::getChangeSeq)))
+            .forEach((spaceId, spaceChangeSeqs) -> eventPublisher.publishEvent(
+                ChangeEvent.transactionsCreated(userId, spaceId, spaceChangeSeqs.getMax(), (int) spaceChangeSeqs.getCount())));
+        log.info("{} transactions created for user {} ({} skipped)", savedTransactions.size(), userId, transactions.size() - savedTransactions.size());
+        return new TransactionBatchResult(savedTransactions, inaccessibleSpaceIds);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Transaction getTransactionById(UUID userId, UUID transactionId) {
@@ -65,7 +146,7 @@ public class TransactionServiceImpl implements TransactionService {
         log.debug("Fetching transactions for space {} belonging to user {}", spaceId, userId);
 
         // Verify user owns the space before fetching transactions
-         if (!spaceRepository.existsByIdAndUserId(spaceId, userId)) {
+         if (!spaceOwnershipCache.isOwnedBy(spaceId, userId)) {
              log.warn("User {} attempted to access transactions from unauthorized or non-existent space {}", userId, spaceId);
              // Return empty list or throw exception based on desired behavior
              // Throwing aligns with trying to access a non-owned resource directly
@@ -78,6 +159,32 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionRepository.findBySpaceIdOrderByTransactionDateDescCreatedAtDesc(spaceId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPage getTransactionsForSpace(UUID userId, UUID spaceId, TransactionCursor after, int limit) {
+        log.debug("Fetching transaction page for space {} belonging to user {} after {} (limit {})", spaceId, userId, after, limit);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+
+        if (!spaceOwnershipCache.isOwnedBy(spaceId, userId)) {
+            log.warn("User {} attempted to access transactions from unauthorized or non-existent space {}", userId, spaceId);
+            throw new ResourceNotFoundException("Space", "id", spaceId + " accessible by user " + userId);
+        }
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        PageRequest window = PageRequest.ofSize(limit + 1);
+        List<Transaction> rows = after == null
+                ? transactionRepository.findFirstPageBySpaceId(spaceId, window)
+                : transactionRepository.findPageBySpaceIdAfter(spaceId, after.transactionDate(), after.createdAt(), after.id(), window);
+
+        if (rows.size() <= limit) {
+            return new TransactionPage(rows, null);
+        }
+        List<Transaction> items = rows.subList(0, limit);
+        return new TransactionPage(items, TransactionCursor.of(items.get(limit - 1)));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Transaction> getTransactionsForUserSince(UUID userId, OffsetDateTime since) {
@@ -91,18 +198,80 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionRepository.findByUserIdAndUpdatedAtAfterOrderByUpdatedAtAsc(userId, since);
     }
 
+    @Override
+    @Transactional(readOnly = true) // Keeps the connection (and its server-side cursor) open while rows are consumed
+    public long exportTransactionsForUser(UUID userId, Consumer<Transaction> action) {
+        log.info("Exporting transactions for user {}", userId);
+        long count = 0;
+        try (Stream<Transaction> transactions = transactionRepository.streamByUserId(userId)) {
+            Iterator<Transaction> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                Transaction transaction = iterator.next();
+                action.accept(transaction);
+                entityManager.detach(transaction); // Otherwise the persistence context grows with every row read
+                count++;
+            }
+        }
+        log.info("Exported {} transactions for user {}", count, userId);
+        return count;
+    }
+
+    @Override
+    // One snapshot for both reads: under READ COMMITTED a write or delete committing between them could land in one
+    // list but not the other, and the returned cursor would then skip it for good
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncBatch getChangesForUser(UUID userId, long afterChangeSeq, int limit) {
+        log.debug("Fetching up to {} changes for user {} after change sequence {}", limit, userId, afterChangeSeq);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Sync batch limit must be positive: " + limit);
+        }
+
+        // Two short index range scans on (user_id, change_seq) in the same snapshot; one extra row each tells us if more remain
+        PageRequest window = PageRequest.ofSize(limit + 1);
+        List<Transaction> changed = transactionRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(userId, afterChangeSeq, window);
+        List<TransactionTombstone> deleted = tombstoneRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(userId, afterChangeSeq, window);
+
+        // Merge both streams by change sequence and keep the first 'limit' entries
+        List<Transaction> upserts = new ArrayList<>();
+        List<TransactionTombstone> deletions = new ArrayList<>();
+        long position = afterChangeSeq;
+        int u = 0;
+        int d = 0;
+        while (upserts.size() + deletions.size() < limit && (u < changed.size() || d < deleted.size())) {
+            boolean takeUpsert = d >= deleted.size()
+                    || (u < changed.size() && changed.get(u).getChangeSeq() < deleted.get(d).getChangeSeq());
+            if (takeUpsert) {
+                Transaction transaction = changed.get(u++);
+                upserts.add(transaction);
+                position = transaction.getChangeSeq();
+            } else {
+                TransactionTombstone tombstone = deleted.get(d++);
+                deletions.add(tombstone);
+                position = tombstone.getChangeSeq();
+            }
+        }
+        boolean hasMore = u < changed.size() || d < deleted.size();
+        return new SyncBatch(upserts, deletions, position, hasMore);
+    }
+
     @Override
     public Transaction updateTransaction(UUID userId, UUID transactionId, BigDecimal amount, LocalDate transactionDate, String description) {
         log.info("Updating transaction {} for user {}", transactionId, userId);
         Transaction existingTransaction = getTransactionById(userId, transactionId); // Checks ownership
+        long changeSeq = nextChangeSeq(userId); // Before touching the entity: the native query auto-flushes dirty state
+        BigDecimal previousAmount = existingTransaction.getAmount();
+        LocalDate previousDate = existingTransaction.getTransactionDate();
 
         // Update allowed fields
         existingTransaction.setAmount(amount);
         existingTransaction.setTransactionDate(transactionDate);
         existingTransaction.setDescription(description);
+        existingTransaction.setChangeSeq(changeSeq);
         // Type and Space are generally not updatable, requires delete/create.
 
         Transaction updatedTransaction = transactionRepository.save(existingTransaction);
+        spaceSummaryService.recordUpdated(updatedTransaction, previousAmount, previousDate);
+        eventPublisher.publishEvent(ChangeEvent.transactionUpdated(updatedTransaction));
         log.info("Transaction {} updated successfully", transactionId);
         return updatedTransaction;
     }
@@ -112,7 +281,32 @@ public class TransactionServiceImpl implements TransactionService {
         log.info("Deleting transaction {} for user {}", transactionId, userId);
         Transaction transactionToDelete = getTransactionById(userId, transactionId); // Checks ownership
 
+        long changeSeq = nextChangeSeq(userId);
+
+        // Leave a tombstone so syncing clients learn about the hard delete
+        tombstoneRepository.save(TransactionTombstone.builder()
+            .id(transactionToDelete.getId())
+            .spaceId(transactionToDelete.getSpaceId())
+            .userId(userId)
+            .changeSeq(changeSeq)
+            .build());
         transactionRepository.delete(transactionToDelete);
+        spaceSummaryService.recordDeleted(transactionToDelete, changeSeq);
+        eventPublisher.publishEvent(ChangeEvent.transactionDeleted(transactionToDelete, changeSeq));
         log.info("Transaction {} deleted successfully", transactionId);
     }
+
+    // Serializes change sequence assignment per user until this DB transaction commits (see repository)
+    private long nextChangeSeq(UUID userId) {
+        long lockKey = userId.getMostSignificantBits() ^ userId.getLeastSignificantBits();
+        return transactionRepository.lockAndNextChangeSeq(lockKey);
+    }
+
+    // Block variant for bulk inserts, ascending so input order matches change order
+    private List<Long> nextChangeSeqs(UUID userId, int count) {
+        long lockKey = userId.getMostSignificantBits() ^ userId.getLeastSignificantBits();
+        List<Long> changeSeqs = new ArrayList<>(transactionRepository.lockAndNextChangeSeqs(lockKey, count));
+        Collections.sort(changeSeqs);
+        return changeSeqs;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+-- Monotonic change counter used by the incremental sync feed (transactions.change_seq and
+-- transaction_tombstones.change_seq both draw from it).
+CREATE SEQUENCE IF NOT EXISTS transaction_change_seq;
+
+-- Tables are created by Hibernate on a fresh database, so only backfill when they already exist.
+DO $$
+BEGIN
+    IF to_regclass('transactions') IS NOT NULL THEN
+        ALTER TABLE transactions ADD COLUMN IF NOT EXISTS change_seq BIGINT;
+        UPDATE transactions SET change_seq = nextval('transaction_change_seq') WHERE change_seq IS NULL;
+    END IF;
+END $$;
@@ -0,0 +1,21 @@
+-- Change counters behind the HTTP ETags: spaces.version (optimistic lock version) and
+-- space_summaries.last_change_seq (latest transaction change, including deletions, in the space).
+-- Tables are created by Hibernate on a fresh database, so only alter/backfill when they already exist.
+DO $$
+BEGIN
+    IF to_regclass('spaces') IS NOT NULL THEN
+        ALTER TABLE spaces ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+    END IF;
+    IF to_regclass('space_summaries') IS NOT NULL THEN
+        ALTER TABLE space_summaries ADD COLUMN IF NOT EXISTS last_change_seq BIGINT NOT NULL DEFAULT 0;
+        IF to_regclass('transaction_tombstones') IS NOT NULL THEN
+            UPDATE space_summaries s SET last_change_seq = c.max_change_seq
+            FROM (SELECT space_id, MAX(change_seq) AS max_change_seq
+                  FROM (SELECT space_id, change_seq FROM transactions
+                        UNION ALL
+                        SELECT space_id, change_seq FROM transaction_tombstones) changes
+                  GROUP BY space_id) c
+            WHERE c.space_id = s.space_id AND c.max_change_seq IS NOT NULL;
+        END IF;
+    END IF;
+END $$;
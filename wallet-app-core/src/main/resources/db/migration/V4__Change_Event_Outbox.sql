@@ -0,0 +1,17 @@
+-- Transactional outbox: one row per space/transaction change, written in the same DB transaction as the change
+-- and relayed to the configured ChangeEventSink in id order. Created here rather than by Hibernate so the
+-- partial index that keeps the relay's "what is still pending" scan small exists from the start.
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type     VARCHAR(32) NOT NULL,
+    user_id        UUID        NOT NULL,
+    space_id       UUID        NOT NULL,
+    transaction_id UUID,
+    change_seq     BIGINT,
+    item_count     INTEGER     NOT NULL,
+    created_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    published_at   TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (id) WHERE published_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_published_at ON outbox_events (published_at) WHERE published_at IS NOT NULL;
@@ -0,0 +1,10 @@
+-- Outbox ids follow insert order, not commit order: a transaction holding id 10 can commit after the one holding
+-- id 11. The relay now stamps each event with a position from this sequence as it hands the event over. An event
+-- that becomes visible late therefore gets a higher position than everything relayed before it, so consumers can
+-- keep a high-water mark on it.
+CREATE SEQUENCE IF NOT EXISTS outbox_relay_position_seq;
+
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS relay_position BIGINT;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_outbox_events_relay_position ON outbox_events (relay_position)
+    WHERE relay_position IS NOT NULL;